@@ -0,0 +1,54 @@
+package main.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import main.GraphicObject;
+
+/**
+ * Teste de ponto dentro de polgono com {@link GraphicObject#contains(int, int)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContainsBenchmark {
+
+	private static final int RADIUS = 1000;
+
+	@Param({ "100", "10000", "1000000" })
+	public int vertices;
+
+	private GraphicObject polygon;
+
+	@Setup
+	public void setup() {
+		polygon = Scene.polygon(vertices, RADIUS);
+	}
+
+	@Benchmark
+	public boolean inside() {
+		return polygon.contains(RADIUS / 2, RADIUS / 3);
+	}
+
+	/**
+	 * Ponto dentro da {@link main.BBox} mas fora do polgono, no canto.
+	 */
+	@Benchmark
+	public boolean outside() {
+		return polygon.contains(RADIUS - 1, RADIUS - 1);
+	}
+}
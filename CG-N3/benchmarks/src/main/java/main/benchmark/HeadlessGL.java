@@ -0,0 +1,31 @@
+package main.benchmark;
+
+import main.opengl.GLAdapter;
+
+/**
+ * {@link javax.media.opengl.GL} sem tela, usado para medir o custo de
+ * percorrer a cena no desenho. Apenas conta os vrtices enviados, para que o
+ * desenho no seja descartado pelo compilador.
+ */
+public class HeadlessGL extends GLAdapter {
+
+	private long vertexCount;
+
+	@Override
+	public void glVertex2d(double x, double y) {
+		vertexCount++;
+	}
+
+	@Override
+	public void glDrawArrays(int mode, int first, int count) {
+		vertexCount += count;
+	}
+
+	public long getVertexCount() {
+		return vertexCount;
+	}
+
+	public void reset() {
+		vertexCount = 0;
+	}
+}
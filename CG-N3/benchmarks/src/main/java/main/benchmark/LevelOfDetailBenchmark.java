@@ -0,0 +1,89 @@
+package main.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import main.BatchRenderer;
+import main.Camera;
+
+/**
+ * Desenho com a cmera no afastamento mximo, com e sem os nveis de detalhe.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LevelOfDetailBenchmark {
+
+	private static final int VIEWPORT_SIZE = 800;
+
+	@Param({ "10000", "1000000" })
+	public int totalVertices;
+
+	/**
+	 * <code>lod</code> informa o tamanho em pixels  cmera, o que habilita
+	 * os nveis de detalhe; <code>full</code> desenha todos os vrtices.
+	 */
+	@Param({ "full", "lod" })
+	public String detail;
+
+	private Scene scene;
+	private BatchRenderer batchRenderer;
+	private final HeadlessGL gl = new HeadlessGL();
+
+	@Setup
+	public void setup() {
+		scene = new Scene(totalVertices, 1, 42);
+		batchRenderer = new BatchRenderer(scene.world);
+		final Camera camera = scene.world.getCamera();
+		for (int i = 0; i < 200; i++) {
+			camera.zoom(-50);
+		}
+		if ("lod".equals(detail)) {
+			camera.setViewportSize(VIEWPORT_SIZE, VIEWPORT_SIZE);
+		}
+	}
+
+	@Benchmark
+	public long drawWorld() {
+		gl.reset();
+		scene.world.draw(gl);
+		return gl.getVertexCount();
+	}
+
+	/**
+	 * Monta os grupos de novo a cada quadro, como depois de uma edio ou de
+	 * um movimento da cmera.
+	 */
+	@Benchmark
+	public long drawBatched() {
+		gl.reset();
+		batchRenderer.invalidate();
+		batchRenderer.draw(gl);
+		return gl.getVertexCount();
+	}
+
+	/**
+	 * Desenha de novo os grupos j montados, como nos quadros que s mudam a
+	 * indicao sob o mouse.
+	 */
+	@Benchmark
+	public long drawBatchedUnchanged() {
+		gl.reset();
+		batchRenderer.draw(gl);
+		return gl.getVertexCount();
+	}
+}
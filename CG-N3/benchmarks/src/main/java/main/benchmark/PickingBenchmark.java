@@ -0,0 +1,59 @@
+package main.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import main.GraphicObject;
+import main.Point4D;
+
+/**
+ * Seleo de objetos com {@link main.World#findObjectAt(Point4D, Point4D)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PickingBenchmark {
+
+	@Param({ "100", "10000", "1000000" })
+	public int totalVertices;
+
+	@Param({ "1", "4", "16" })
+	public int depth;
+
+	/** Teste dos candidatos: automtico, sempre sequencial ou sempre paralelo. */
+	@Param({ "auto", "sequential", "parallel" })
+	public String mode;
+
+	private Scene scene;
+	private int next;
+
+	@Setup
+	public void setup() {
+		scene = new Scene(totalVertices, depth, 42);
+		if ("sequential".equals(mode)) {
+			scene.world.setParallelPickingThreshold(Integer.MAX_VALUE, Integer.MAX_VALUE);
+		} else if ("parallel".equals(mode)) {
+			scene.world.setParallelPickingThreshold(0, 0);
+		}
+	}
+
+	@Benchmark
+	public GraphicObject findObjectAt() {
+		final Point4D point = scene.points[next++ & (scene.points.length - 1)];
+		return scene.world.findObjectAt(point, null);
+	}
+}
@@ -0,0 +1,76 @@
+package main.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import main.GraphicObject;
+import main.Point4D;
+import main.World;
+
+/**
+ * Cena gerada para os benchmarks. Os objetos so polgonos regulares
+ * espalhados aleatoriamente e agrupados em cadeias de pais e filhos com a
+ * profundidade pedida.
+ */
+final class Scene {
+
+	static final int VERTICES_PER_OBJECT = 100;
+	private static final int RADIUS = 50;
+	private static final int QUERY_POINTS = 1024;
+
+	final World world = new World();
+	final List<GraphicObject> roots = new ArrayList<>();
+	final List<GraphicObject> objects = new ArrayList<>();
+	/** Pontos de consulta espalhados pela rea da cena. */
+	final Point4D[] points = new Point4D[QUERY_POINTS];
+	final int extent;
+
+	/**
+	 * @param totalVertices
+	 *            quantidade total de vrtices da cena.
+	 * @param depth
+	 *            profundidade de cada cadeia de objetos, sendo 1 somente
+	 *            objetos raiz.
+	 * @param seed
+	 *            semente dos nmeros aleatrios.
+	 */
+	Scene(final int totalVertices, final int depth, final long seed) {
+		final Random random = new Random(seed);
+		final int count = Math.max(1, totalVertices / VERTICES_PER_OBJECT);
+		final int verticesPerObject = totalVertices / count;
+		extent = (int) Math.ceil(Math.sqrt(count)) * RADIUS * 2;
+
+		GraphicObject parent = null;
+		for (int i = 0; i < count; i++) {
+			final GraphicObject object = polygon(verticesPerObject, RADIUS);
+			if (i % depth == 0) {
+				object.translate(random.nextInt(2 * extent) - extent, random.nextInt(2 * extent) - extent);
+				roots.add(object);
+			} else {
+				object.translate(random.nextInt(2 * RADIUS) - RADIUS, random.nextInt(2 * RADIUS) - RADIUS);
+				parent.addGraphicObject(object);
+			}
+			objects.add(object);
+			parent = object;
+		}
+		world.addAll(roots);
+
+		for (int i = 0; i < points.length; i++) {
+			points[i] = new Point4D(random.nextInt(2 * extent) - extent, random.nextInt(2 * extent) - extent);
+		}
+	}
+
+	/**
+	 * Cria um polgono regular centrado na origem.
+	 */
+	static GraphicObject polygon(final int vertices, final int radius) {
+		final GraphicObject object = new GraphicObject();
+		for (int i = 0; i < vertices; i++) {
+			final double angle = 2 * Math.PI * i / vertices;
+			object.createVertexAt(new Point4D((int) Math.round(Math.cos(angle) * radius),
+					(int) Math.round(Math.sin(angle) * radius)));
+		}
+		return object;
+	}
+}
@@ -0,0 +1,77 @@
+package main.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import main.Point4D;
+import main.Transform;
+
+/**
+ * Operaes de matriz e de ponto da {@link Transform}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransformBenchmark {
+
+	private final Transform a = new Transform();
+	private final Transform b = new Transform();
+	private final Transform result = new Transform();
+	private final Point4D point = new Point4D(123, -45);
+	private final int[] intPoint = new int[2];
+	private final double[] doublePoint = new double[2];
+
+	@Setup
+	public void setup() {
+		a.rotateZ(0.5);
+		a.translate(10, 20, 0);
+		b.scale(2, 3, 1);
+	}
+
+	@Benchmark
+	public Transform transformMatrix() {
+		return a.transformMatrix(b);
+	}
+
+	@Benchmark
+	public Transform multiply() {
+		result.multiply(a, b);
+		return result;
+	}
+
+	@Benchmark
+	public Point4D transformPoint() {
+		return a.transformPoint(point);
+	}
+
+	@Benchmark
+	public int[] transformPointInt() {
+		a.transformPoint(123, -45, intPoint);
+		return intPoint;
+	}
+
+	@Benchmark
+	public double[] transformPointDouble() {
+		a.transformPoint(123.5, -45.5, doublePoint);
+		return doublePoint;
+	}
+
+	@Benchmark
+	public int[] inverseTransformPoint() {
+		a.inverseTransformPoint(123, -45, intPoint);
+		return intPoint;
+	}
+}
@@ -0,0 +1,89 @@
+package main.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import main.BatchRenderer;
+import main.GraphicObject;
+
+/**
+ * Percurso da rvore da cena, tanto pela lista de objetos quanto pelo
+ * desenho em um {@link HeadlessGL}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TraversalBenchmark {
+
+	@Param({ "100", "10000", "1000000" })
+	public int totalVertices;
+
+	@Param({ "1", "4", "16" })
+	public int depth;
+
+	private Scene scene;
+	private BatchRenderer batchRenderer;
+	private final HeadlessGL gl = new HeadlessGL();
+
+	@Setup
+	public void setup() {
+		scene = new Scene(totalVertices, depth, 42);
+		batchRenderer = new BatchRenderer(scene.world);
+	}
+
+	@Benchmark
+	public int getRecursive() {
+		int count = 0;
+		for (GraphicObject root : scene.roots) {
+			count += scene.world.getRecursive(root, GraphicObject::getGrapicObjects).size();
+		}
+		return count;
+	}
+
+	/**
+	 * Desenho do mundo, descartando os objetos fora da cmera.
+	 */
+	@Benchmark
+	public long drawWorld() {
+		gl.reset();
+		scene.world.draw(gl);
+		return gl.getVertexCount();
+	}
+
+	/**
+	 * Desenho de todos os objetos, sem descarte.
+	 */
+	@Benchmark
+	public long drawAll() {
+		gl.reset();
+		for (GraphicObject root : scene.roots) {
+			root.draw(gl);
+		}
+		return gl.getVertexCount();
+	}
+
+	/**
+	 * Desenho do mundo agrupado por primitiva, descartando os objetos fora
+	 * da cmera.
+	 */
+	@Benchmark
+	public long drawBatched() {
+		gl.reset();
+		batchRenderer.draw(gl);
+		return gl.getVertexCount();
+	}
+}
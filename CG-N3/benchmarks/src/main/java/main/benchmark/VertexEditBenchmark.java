@@ -0,0 +1,78 @@
+package main.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import main.BBox;
+import main.GraphicObject;
+import main.Point4D;
+import main.World;
+
+/**
+ * Edio de vrtices e o reclculo da {@link BBox} que ela provoca.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VertexEditBenchmark {
+
+	private static final int RADIUS = 1000;
+
+	@Param({ "100", "10000", "1000000" })
+	public int vertices;
+
+	private GraphicObject polygon;
+	private final Point4D newVertex = new Point4D(RADIUS * 2, 0);
+
+	@Setup
+	public void setup() {
+		polygon = Scene.polygon(vertices, RADIUS);
+		new World().add(polygon);
+	}
+
+	/**
+	 * Move para dentro o vrtice de maior X e depois o devolve. Mover um
+	 * extremo para dentro obriga a percorrer todos os vrtices.
+	 */
+	@Benchmark
+	public BBox moveExtreme() {
+		polygon.updateVertexPointAt(0, RADIUS - 10, 0);
+		polygon.getBBox();
+		polygon.updateVertexPointAt(0, RADIUS, 0);
+		return polygon.getBBox();
+	}
+
+	/**
+	 * Move um vrtice sem alterar os extremos.
+	 */
+	@Benchmark
+	public BBox moveInterior() {
+		polygon.updateVertexPointAt(1, 0, 0);
+		return polygon.getBBox();
+	}
+
+	/**
+	 * Adiciona um vrtice que amplia a {@link BBox} e o remove.
+	 */
+	@Benchmark
+	public BBox addAndRemove() {
+		polygon.createVertexAt(newVertex);
+		polygon.getBBox();
+		polygon.removeVertexAt(polygon.getLastVertexIndex());
+		return polygon.getBBox();
+	}
+}
@@ -0,0 +1,120 @@
+package main;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.media.opengl.GL;
+
+import org.junit.Test;
+
+import main.opengl.GLAdapter;
+
+public class BatchRendererTest {
+
+	/** Vrtices enviados com glVertex2f, sem vertex arrays. */
+	private final List<String> vertices = new ArrayList<>();
+	private final GL gl = new GLAdapter() {
+		@Override
+		public void glVertex2f(final float x, final float y) {
+			vertices.add(Math.round(x) + "," + Math.round(y));
+		}
+	};
+
+	@Test
+	public void reusesBatchesUntilTheSceneChanges() {
+		final World world = new World();
+		final GraphicObject square = WorldTest.square(0, 0, 10);
+		world.add(square);
+		final BatchRenderer renderer = new BatchRenderer(world);
+		draw(renderer);
+
+		// Sem invalidar, os grupos montados continuam valendo
+		square.updateVertexPointAt(0, 5, 5);
+		assertTrue(draw(renderer).contains("0,0"));
+
+		renderer.invalidate();
+		final List<String> drawn = draw(renderer);
+		assertTrue(drawn.contains("5,5"));
+		assertFalse(drawn.contains("0,0"));
+	}
+
+	@Test
+	public void rebuildsWhenObjectsArePublished() {
+		final World world = new World();
+		world.add(WorldTest.square(0, 0, 10));
+		final BatchRenderer renderer = new BatchRenderer(world);
+		assertEquals(6, draw(renderer).size());
+
+		world.publish(WorldTest.square(20, 20, 10));
+		assertEquals(12, draw(renderer).size());
+	}
+
+	@Test
+	public void rebuildsWhenTheCameraMoves() {
+		final World world = new World();
+		world.add(WorldTest.square(0, 0, 10));
+		world.add(WorldTest.square(1000, 0, 10));
+		final BatchRenderer renderer = new BatchRenderer(world);
+		assertEquals(6, draw(renderer).size());
+
+		world.getCamera().pan(0, 900);
+		assertEquals(6, draw(renderer).size());
+		assertTrue(vertices.contains("1000,0"));
+	}
+
+	@Test
+	public void uploadsOnlyTheChunksThatChanged() {
+		final World world = new World();
+		final List<GraphicObject> squares = new ArrayList<>();
+		for (int i = 0; i < 30000; i++) {
+			squares.add(WorldTest.square(-400 + i % 200 * 4, -300 + i / 200 * 4, 2));
+		}
+		world.addAll(squares);
+		final BatchRenderer renderer = new BatchRenderer(world);
+		final GL gl = new BufferGL();
+		renderer.draw(gl);
+		assertEquals(3, renderer.getUploadCount());
+
+		renderer.invalidate();
+		renderer.draw(gl);
+		assertEquals(0, renderer.getUploadCount());
+
+		// Cada quadrado tem 6 vrtices, os trechos terminam perto de 11000 objetos
+		squares.get(15000).updateVertexPointAt(0, 1, 1);
+		renderer.invalidate();
+		renderer.draw(gl);
+		assertEquals(1, renderer.getUploadCount());
+
+		world.publish(WorldTest.square(396, 396, 2));
+		renderer.draw(gl);
+		assertEquals(1, renderer.getUploadCount());
+	}
+
+	private List<String> draw(final BatchRenderer renderer) {
+		vertices.clear();
+		renderer.draw(gl);
+		return vertices;
+	}
+
+	/** {@link GL} com buffer objects, que s cria os nomes dos buffers. */
+	private static final class BufferGL extends GLAdapter {
+
+		private int lastId;
+
+		@Override
+		public boolean isFunctionAvailable(final String name) {
+			return true;
+		}
+
+		@Override
+		public void glGenBuffers(final int n, final int[] ids, final int offset) {
+			for (int i = 0; i < n; i++) {
+				ids[offset + i] = ++lastId;
+			}
+		}
+	}
+}
@@ -0,0 +1,93 @@
+package main;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class EdgeTableTest {
+
+	@Test
+	public void squareBordersFollowTheRay() {
+		final EdgeTable table = build(0, 0, 10, 0, 10, 10, 0, 10);
+
+		assertTrue(table.contains(5, 5, FillRule.EVEN_ODD));
+		assertTrue(table.contains(5, 0, FillRule.EVEN_ODD));
+		assertFalse(table.contains(5, 10, FillRule.EVEN_ODD));
+		/* A aresta sob o ponto conta como cruzada pela semirreta */
+		assertTrue(table.contains(10, 5, FillRule.EVEN_ODD));
+		assertFalse(table.contains(0, 5, FillRule.EVEN_ODD));
+		assertFalse(table.contains(-1, 5, FillRule.EVEN_ODD));
+	}
+
+	@Test
+	public void selfIntersectingPolygonDependsOnFillRule() {
+		/* Pentagrama: o centro fica dentro somente pela regra NON_ZERO */
+		final EdgeTable table = build(50, 0, 79, 90, 2, 35, 98, 35, 21, 90);
+
+		assertFalse(table.contains(50, 50, FillRule.EVEN_ODD));
+		assertTrue(table.contains(50, 50, FillRule.NON_ZERO));
+		assertTrue(table.contains(50, 20, FillRule.EVEN_ODD));
+	}
+
+	@Test
+	public void matchesCrossingTestOnRandomPolygons() {
+		final Random random = new Random(42);
+		for (int polygon = 0; polygon < 50; polygon++) {
+			final int[] coords = new int[(3 + random.nextInt(60)) * 2];
+			for (int i = 0; i < coords.length; i++) {
+				coords[i] = random.nextInt(1000);
+			}
+			final EdgeTable table = build(coords);
+			for (int point = 0; point < 200; point++) {
+				final int x = random.nextInt(1100) - 50;
+				final int y = random.nextInt(1100) - 50;
+				for (FillRule rule : FillRule.values()) {
+					assertEquals(contains(coords, x, y, rule), table.contains(x, y, rule));
+				}
+			}
+		}
+	}
+
+	private static EdgeTable build(final int... coords) {
+		final VertexArray vertices = new VertexArray();
+		for (int i = 0; i < coords.length; i += 2) {
+			vertices.add(coords[i], coords[i + 1]);
+		}
+		final EdgeTable table = new EdgeTable();
+		table.build(vertices);
+		return table;
+	}
+
+	/**
+	 * Teste direto com todas as arestas, com as mesmas convenes da tabela:
+	 * intervalos semiabertos em Y e arestas com X maior ou igual ao do ponto.
+	 */
+	private static boolean contains(final int[] coords, final int x, final int y, final FillRule rule) {
+		int crossings = 0;
+		int winding = 0;
+		final int count = coords.length / 2;
+		for (int i = 0; i < count; i++) {
+			final int j = (i + 1) % count;
+			final boolean up = coords[j * 2 + 1] > coords[i * 2 + 1];
+			final int low = up ? i : j;
+			final int high = up ? j : i;
+			final long lowX = coords[low * 2];
+			final long lowY = coords[low * 2 + 1];
+			final long highX = coords[high * 2];
+			final long highY = coords[high * 2 + 1];
+			if (y < lowY || y >= highY) {
+				continue;
+			}
+			final double edgeX = lowX + (double) (y - lowY) * (highX - lowX) / (highY - lowY);
+			if (edgeX >= x) {
+				crossings++;
+				winding += up ? 1 : -1;
+			}
+		}
+		return rule == FillRule.EVEN_ODD ? (crossings & 1) != 0 : winding != 0;
+	}
+}
@@ -0,0 +1,84 @@
+package main;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+public class QuadTreeTest {
+
+	@Test
+	public void findsItemsByPointAndRectangle() {
+		final QuadTree<String> tree = new QuadTree<>();
+		tree.put("a", 0, 0, 10, 10);
+		tree.put("b", 5, 5, 20, 20);
+		tree.put("c", 100, 100, 110, 110);
+
+		assertEquals(Arrays.asList("a", "b"), sorted(pointQuery(tree, 7, 7)));
+		assertEquals(Arrays.asList("c"), pointQuery(tree, 105, 105));
+		assertTrue(pointQuery(tree, 50, 50).isEmpty());
+
+		final List<String> result = new ArrayList<>();
+		tree.query(15, 15, 100, 100, result);
+		assertEquals(Arrays.asList("b", "c"), sorted(result));
+	}
+
+	@Test
+	public void updatesAndRemovesItems() {
+		final QuadTree<String> tree = new QuadTree<>();
+		tree.put("a", 0, 0, 10, 10);
+		tree.put("a", 50, 50, 60, 60);
+		assertTrue(pointQuery(tree, 5, 5).isEmpty());
+		assertEquals(Arrays.asList("a"), pointQuery(tree, 55, 55));
+
+		tree.remove("a");
+		assertEquals(0, tree.size());
+		assertTrue(pointQuery(tree, 55, 55).isEmpty());
+	}
+
+	@Test
+	public void growsBeyondInitialSize() {
+		final QuadTree<Integer> tree = new QuadTree<>();
+		for (int i = 0; i < 1000; i++) {
+			final int x = (i - 500) * 100_000;
+			tree.put(i, x, -x, x + 10, -x + 10);
+		}
+		for (int i = 0; i < 1000; i++) {
+			final int x = (i - 500) * 100_000;
+			assertEquals(Arrays.asList(i), pointQuery(tree, x + 5, -x + 5));
+		}
+	}
+
+	@Test(timeout = 5000)
+	public void acceptsBoundsAtTheLimitsOfInt() {
+		final QuadTree<String> tree = new QuadTree<>();
+		for (int i = 0; i < 20; i++) {
+			tree.put("small" + i, i * 10, i * 10, i * 10 + 5, i * 10 + 5);
+		}
+		tree.put("x", 0, 0, Integer.MAX_VALUE - 5, 10);
+		tree.put("min", Integer.MIN_VALUE, Integer.MIN_VALUE, Integer.MIN_VALUE + 1, Integer.MIN_VALUE + 1);
+		tree.put("all", Integer.MIN_VALUE, Integer.MIN_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE);
+
+		assertEquals(Arrays.asList("all", "x"), sorted(pointQuery(tree, Integer.MAX_VALUE - 6, 5)));
+		assertEquals(Arrays.asList("all", "min"), sorted(pointQuery(tree, Integer.MIN_VALUE, Integer.MIN_VALUE)));
+		for (int i = 0; i < 20; i++) {
+			assertTrue(pointQuery(tree, i * 10 + 2, i * 10 + 2).contains("small" + i));
+		}
+		assertEquals(23, tree.size());
+	}
+
+	private static <T> List<T> pointQuery(final QuadTree<T> tree, final int x, final int y) {
+		final List<T> result = new ArrayList<>();
+		tree.query(x, y, result);
+		return result;
+	}
+
+	private static List<String> sorted(final List<String> list) {
+		list.sort(null);
+		return list;
+	}
+}
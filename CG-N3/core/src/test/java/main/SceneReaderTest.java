@@ -0,0 +1,109 @@
+package main;
+
+import static main.SvgReaderTest.assertVertices;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.media.opengl.GL;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class SceneReaderTest {
+
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void writtenWorldReadsBack() throws IOException {
+		final World world = new World();
+		final GraphicObject parent = WorldTest.square(0, 0, 100);
+		parent.setColor(new float[] { 0.25f, 0.5f, 1 });
+		parent.setLineWidth(2);
+		parent.setFillRule(FillRule.NON_ZERO);
+		final GraphicObject child = WorldTest.square(200, 200, 20);
+		child.setPrimitive(GL.GL_POINTS);
+		parent.addGraphicObject(child);
+		world.add(parent);
+		world.add(WorldTest.square(-50, -50, 10));
+		parent.translate(1000, 500);
+
+		final Path path = folder.newFile("scene.cg").toPath();
+		new SceneWriter().write(world, path);
+		final SceneReader reader = new SceneReader();
+		final List<GraphicObject> roots = new ArrayList<>();
+		reader.read(path, roots::add);
+
+		assertEquals(3, reader.getObjectCount());
+		assertEquals(3, reader.getTotalObjectCount());
+		assertEquals(2, roots.size());
+		final GraphicObject read = roots.get(0);
+		assertArrayEquals(parent.getColor(), read.getColor(), 0);
+		assertEquals(2, read.getLineWidth(), 0);
+		assertEquals(FillRule.NON_ZERO, read.getFillRule());
+		assertVertices(read, 0, 0, 100, 0, 100, 100, 0, 100);
+		assertEquals(1, read.getGrapicObjects().size());
+		final GraphicObject readChild = read.getGrapicObjects().get(0);
+		assertEquals(GL.GL_POINTS, readChild.getPrimitive());
+		assertVertices(readChild, 200, 200, 220, 200, 220, 220, 200, 220);
+		assertVertices(roots.get(1), -50, -50, -40, -50, -40, -40, -50, -40);
+
+		/* A transformao do pai continua valendo para o filho */
+		final World readWorld = new World();
+		readWorld.addAll(roots);
+		final BBox bounds = readWorld.findObjectAt(new Point4D(1210, 710), null).getWorldBBox();
+		assertEquals(1200, bounds.getMinX());
+		assertEquals(1220, bounds.getMaxX());
+	}
+
+	@Test
+	public void readsAcrossMappedWindows() throws IOException {
+		final World world = new World();
+		final List<GraphicObject> written = new ArrayList<>();
+		for (int i = 0; i < 50; i++) {
+			final GraphicObject object = WorldTest.square(i * 10, i * 20, i + 1);
+			if (i % 5 == 0) {
+				object.addGraphicObject(WorldTest.square(i * 10, -i, 3));
+			}
+			written.add(object);
+		}
+		world.addAll(written);
+
+		final Path path = folder.newFile("scene.cg").toPath();
+		new SceneWriter().write(world, path);
+		final List<GraphicObject> roots = new ArrayList<>();
+		new SceneReader(SceneFormat.NODE_SIZE + 20).read(path, roots::add);
+
+		assertEquals(written.size(), roots.size());
+		for (int i = 0; i < written.size(); i++) {
+			final int size = i + 1;
+			final GraphicObject read = roots.get(i);
+			assertVertices(read, i * 10, i * 20, i * 10 + size, i * 20, i * 10 + size, i * 20 + size, i * 10,
+					i * 20 + size);
+			if (i % 5 == 0) {
+				assertVertices(read.getGrapicObjects().get(0), i * 10, -i, i * 10 + 3, -i, i * 10 + 3, -i + 3,
+						i * 10, -i + 3);
+			}
+		}
+	}
+
+	@Test
+	public void rejectsFileThatIsNotAScene() throws IOException {
+		final Path path = folder.newFile("scene.cg").toPath();
+		Files.write(path, new byte[64]);
+		try {
+			new SceneReader().read(path, root -> fail());
+			fail();
+		} catch (IOException e) {
+			// esperado
+		}
+	}
+}
@@ -0,0 +1,81 @@
+package main;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.media.opengl.GL;
+
+import org.junit.Test;
+
+public class SvgReaderTest {
+
+	@Test
+	public void closePathWithoutMoveStartsAtSubpathStart() throws IOException {
+		final List<GraphicObject> roots = read("<path d='M0 0 L10 0 L10 10 Z L20 20'/>");
+
+		assertEquals(2, roots.size());
+		assertEquals(GL.GL_LINE_LOOP, roots.get(0).getPrimitive());
+		assertVertices(roots.get(0), 0, 0, 10, 0, 10, 10);
+		assertEquals(GL.GL_LINE_STRIP, roots.get(1).getPrimitive());
+		assertVertices(roots.get(1), 0, 0, 20, 20);
+	}
+
+	@Test
+	public void relativeCommandAfterCloseIsRelativeToSubpathStart() throws IOException {
+		final List<GraphicObject> roots = read("<path d='M5 5 l10 0 l0 10 z l5 5'/>");
+
+		assertEquals(2, roots.size());
+		assertVertices(roots.get(1), 5, 5, 10, 10);
+	}
+
+	@Test
+	public void writtenWorldReadsBack() throws IOException {
+		final World world = new World();
+		final GraphicObject parent = WorldTest.square(0, 0, 100);
+		parent.setColor(new float[] { 1, 0, 0 });
+		parent.setLineWidth(3);
+		final GraphicObject child = WorldTest.square(10, 20, 30);
+		child.setPrimitive(GL.GL_LINE_STRIP);
+		parent.addGraphicObject(child);
+		world.add(parent);
+
+		final ByteArrayOutputStream output = new ByteArrayOutputStream();
+		new SvgWriter().write(world, output);
+		final List<GraphicObject> roots = new ArrayList<>();
+		new SvgReader().read(new ByteArrayInputStream(output.toByteArray()), roots::add);
+
+		assertEquals(1, roots.size());
+		final GraphicObject read = roots.get(0);
+		assertEquals(parent.getPrimitive(), read.getPrimitive());
+		assertArrayEquals(parent.getColor(), read.getColor(), 0.01f);
+		assertEquals(3, read.getLineWidth(), 0);
+		assertVertices(read, 0, 0, 100, 0, 100, 100, 0, 100);
+		assertEquals(1, read.getGrapicObjects().size());
+		final GraphicObject readChild = read.getGrapicObjects().get(0);
+		assertEquals(GL.GL_LINE_STRIP, readChild.getPrimitive());
+		assertVertices(readChild, 10, 20, 40, 20, 40, 50, 10, 50);
+	}
+
+	private static List<GraphicObject> read(final String elements) throws IOException {
+		final String svg = "<svg xmlns='http://www.w3.org/2000/svg'>" + elements + "</svg>";
+		final List<GraphicObject> roots = new ArrayList<>();
+		new SvgReader().read(new ByteArrayInputStream(svg.getBytes(StandardCharsets.UTF_8)), roots::add);
+		return roots;
+	}
+
+	static void assertVertices(final GraphicObject object, final int... coords) {
+		final int[] actual = new int[object.getVertexCount() * 2];
+		for (int i = 0; i < object.getVertexCount(); i++) {
+			actual[i * 2] = object.getVertex(i).getX();
+			actual[i * 2 + 1] = object.getVertex(i).getY();
+		}
+		assertArrayEquals(coords, actual);
+	}
+}
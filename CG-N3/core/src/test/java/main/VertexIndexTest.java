@@ -0,0 +1,145 @@
+package main;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class VertexIndexTest {
+
+	@Test
+	public void findReturnsLowestIndexWithinRadius() {
+		final VertexArray vertices = vertices(0, 0, 100, 100, 103, 98, 500, 500);
+		final VertexIndex index = new VertexIndex();
+		index.build(vertices);
+
+		assertEquals(1, index.find(vertices, 102, 99, 5));
+		assertEquals(2, index.find(vertices, 106, 97, 3));
+		assertEquals(-1, index.find(vertices, 300, 300, 5));
+	}
+
+	@Test
+	public void incrementalEditsMatchRebuild() {
+		final Random random = new Random(7);
+		final VertexArray vertices = new VertexArray();
+		final VertexIndex index = new VertexIndex();
+		for (int i = 0; i < 200; i++) {
+			vertices.add(random.nextInt(2000), random.nextInt(2000));
+		}
+		index.build(vertices);
+
+		for (int step = 0; step < 500; step++) {
+			final int i = random.nextInt(vertices.size());
+			final int x = random.nextInt(2000);
+			final int y = random.nextInt(2000);
+			vertices.set(i, x, y);
+			index.move(i, x, y);
+			if (step % 10 == 0) {
+				vertices.add(x, y);
+				index.add(vertices.size() - 1, x, y);
+				if (index.isDirty()) {
+					index.build(vertices);
+				}
+			}
+		}
+		for (int i = 0; i < vertices.size(); i++) {
+			assertEquals(find(vertices, vertices.getX(i), vertices.getY(i), 0),
+					index.find(vertices, vertices.getX(i), vertices.getY(i), 0));
+		}
+	}
+
+	@Test
+	public void outlineCellsHoldFewVertices() {
+		final VertexArray vertices = new VertexArray();
+		final int count = 40000;
+		for (int i = 0; i < count; i++) {
+			final double angle = 2 * Math.PI * i / count;
+			vertices.add((int) Math.round(100000 * Math.cos(angle)), (int) Math.round(100000 * Math.sin(angle)));
+		}
+		final VertexIndex index = new VertexIndex();
+		index.build(vertices);
+
+		final int cellSize = index.getCellSize();
+		final Map<Long, Integer> cells = new HashMap<>();
+		int fullest = 0;
+		for (int i = 0; i < count; i++) {
+			final long cell = (long) Math.floorDiv(vertices.getX(i), cellSize) << 32
+					| Math.floorDiv(vertices.getY(i), cellSize) & 0xFFFFFFFFL;
+			fullest = Math.max(fullest, cells.merge(cell, 1, Integer::sum));
+		}
+		assertTrue("vrtices na clula mais cheia: " + fullest, fullest <= 4);
+		assertEquals(0, index.find(vertices, 100000, 0, 2));
+	}
+
+	@Test
+	public void nearestMatchesBruteForce() {
+		final Random random = new Random(11);
+		final VertexArray vertices = new VertexArray();
+		for (int i = 0; i < 1000; i++) {
+			vertices.add(random.nextInt(5000), random.nextInt(5000));
+		}
+		final VertexIndex index = new VertexIndex();
+		index.build(vertices);
+		final int[] result = new int[5];
+
+		for (int query = 0; query < 200; query++) {
+			final int x = random.nextInt(6000) - 500;
+			final int y = random.nextInt(6000) - 500;
+			final long maxDistance = query % 2 == 0 ? Integer.MAX_VALUE : 300;
+			final int found = index.nearest(vertices, x, y, maxDistance, 0, result);
+
+			final long[] expected = nearestDistances(vertices, x, y, maxDistance, 0, result.length);
+			assertEquals(expected.length, found);
+			for (int i = 0; i < found; i++) {
+				assertEquals(expected[i], distanceSquared(vertices, result[i], x, y));
+			}
+		}
+	}
+
+	private static VertexArray vertices(final int... coords) {
+		final VertexArray vertices = new VertexArray();
+		for (int i = 0; i < coords.length; i += 2) {
+			vertices.add(coords[i], coords[i + 1]);
+		}
+		return vertices;
+	}
+
+	private static int find(final VertexArray vertices, final int x, final int y, final int radius) {
+		for (int i = 0; i < vertices.size(); i++) {
+			if (Math.abs(vertices.getX(i) - x) <= radius && Math.abs(vertices.getY(i) - y) <= radius) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Distncias ao quadrado dos vrtices mais prximos, em ordem crescente.
+	 * Vrtices empatados podem vir em qualquer ordem, por isso o teste
+	 * compara as distncias e no os ndices.
+	 */
+	private static long[] nearestDistances(final VertexArray vertices, final int x, final int y,
+			final long maxDistance, final int excluded, final int k) {
+		final long[] distances = new long[vertices.size()];
+		int count = 0;
+		for (int i = 0; i < vertices.size(); i++) {
+			final long distance = distanceSquared(vertices, i, x, y);
+			if (i != excluded && distance <= maxDistance * maxDistance) {
+				distances[count++] = distance;
+			}
+		}
+		Arrays.sort(distances, 0, count);
+		return Arrays.copyOf(distances, Math.min(count, k));
+	}
+
+	private static long distanceSquared(final VertexArray vertices, final int index, final int x, final int y) {
+		final long dx = vertices.getX(index) - x;
+		final long dy = vertices.getY(index) - y;
+		return dx * dx + dy * dy;
+	}
+}
@@ -0,0 +1,90 @@
+package main;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class WorldTest {
+
+	@Test
+	public void picksChildrenThroughParentTransforms() {
+		final World world = new World();
+		final GraphicObject parent = square(0, 0, 100);
+		final GraphicObject child = square(200, 200, 20);
+		parent.addGraphicObject(child);
+		world.add(parent);
+		parent.translate(1000, 500);
+
+		assertSame(child, world.findObjectAt(new Point4D(1210, 710), null));
+		assertSame(child, world.findObjectAt(new Point4D(1210, 710)));
+		assertNull(world.findObjectAt(new Point4D(210, 210), null));
+	}
+
+	@Test
+	public void reattachedChildDropsOldParentTransform() {
+		final World world = new World();
+		final GraphicObject parent = square(0, 0, 100);
+		final GraphicObject child = square(200, 200, 20);
+		parent.addGraphicObject(child);
+		world.add(parent);
+		parent.translate(1000, 500);
+		assertSame(child, world.findObjectAt(new Point4D(1210, 710), null));
+
+		parent.removeGraphicObject(child);
+		world.add(child);
+
+		assertSame(child, world.findObjectAt(new Point4D(210, 210), null));
+		final BBox bounds = child.getWorldBBox();
+		assertEquals(200, bounds.getMinX());
+		assertEquals(220, bounds.getMaxX());
+	}
+
+	@Test
+	public void clearDropsObjectsNotYetPublished() {
+		final World world = new World();
+		world.add(square(0, 0, 10));
+		world.publish(square(20, 20, 10));
+		world.clear();
+		world.publish(square(40, 40, 10));
+
+		assertNull(world.findObjectAt(new Point4D(5, 5), null));
+		assertNull(world.findObjectAt(new Point4D(25, 25), null));
+		assertEquals(1, world.getObjects().size());
+		assertSame(world.getObjects().get(0), world.findObjectAt(new Point4D(45, 45), null));
+	}
+
+	@Test(timeout = 10000)
+	public void largeSelectionComesBackInSceneOrder() {
+		final World world = new World();
+		final Random random = new Random(3);
+		final List<GraphicObject> roots = new ArrayList<>();
+		for (int i = 0; i < 100000; i++) {
+			roots.add(square(random.nextInt(100000), random.nextInt(100000), 10));
+		}
+		final GraphicObject child = square(5, 5, 2);
+		roots.get(50000).addGraphicObject(child);
+		world.addAll(roots);
+
+		final List<GraphicObject> selected = new ArrayList<>();
+		world.findObjectsIn(-1, -1, 100020, 100020, selected);
+
+		final List<GraphicObject> expected = new ArrayList<>(roots);
+		expected.add(50001, child);
+		assertEquals(expected, selected);
+	}
+
+	static GraphicObject square(final int x, final int y, final int size) {
+		final GraphicObject object = new GraphicObject();
+		object.createVertexAt(new Point4D(x, y));
+		object.createVertexAt(new Point4D(x + size, y));
+		object.createVertexAt(new Point4D(x + size, y + size));
+		object.createVertexAt(new Point4D(x, y + size));
+		return object;
+	}
+}
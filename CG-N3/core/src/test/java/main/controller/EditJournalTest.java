@@ -0,0 +1,114 @@
+package main.controller;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import main.GraphicObject;
+import main.Point4D;
+import main.World;
+
+public class EditJournalTest {
+
+	@Test
+	public void undoesAndRedoesVertexEdits() {
+		final EditJournal journal = new EditJournal(10);
+		final GraphicObject object = triangle();
+
+		object.updateVertexPointAt(1, 50, 60);
+		journal.vertexMoved(object, 1, 10, 0, 50, 60);
+		object.createVertexAt(new Point4D(70, 80));
+		journal.vertexAdded(object, 3, 70, 80);
+
+		assertSame(object, journal.undo());
+		assertVertices(object, 0, 0, 50, 60, 0, 10);
+		assertSame(object, journal.undo());
+		assertVertices(object, 0, 0, 10, 0, 0, 10);
+		assertFalse(journal.canUndo());
+
+		assertSame(object, journal.redo());
+		assertSame(object, journal.redo());
+		assertVertices(object, 0, 0, 50, 60, 0, 10, 70, 80);
+		assertFalse(journal.canRedo());
+	}
+
+	@Test
+	public void recordingAfterUndoDiscardsRedo() {
+		final EditJournal journal = new EditJournal(10);
+		final GraphicObject object = triangle();
+
+		object.createVertexAt(new Point4D(20, 20));
+		journal.vertexAdded(object, 3, 20, 20);
+		journal.undo();
+		assertTrue(journal.canRedo());
+
+		object.updateVertexPointAt(0, 5, 5);
+		journal.vertexMoved(object, 0, 0, 0, 5, 5);
+
+		assertFalse(journal.canRedo());
+		journal.undo();
+		assertVertices(object, 0, 0, 10, 0, 0, 10);
+		assertFalse(journal.canUndo());
+	}
+
+	@Test
+	public void dropsOldestEditWhenFull() {
+		final EditJournal journal = new EditJournal(2);
+		final GraphicObject object = triangle();
+
+		for (int i = 1; i <= 3; i++) {
+			object.updateVertexPointAt(0, i, i);
+			journal.vertexMoved(object, 0, i - 1, i - 1, i, i);
+		}
+		journal.undo();
+		journal.undo();
+
+		assertFalse(journal.canUndo());
+		assertVertices(object, 1, 1, 10, 0, 0, 10);
+	}
+
+	@Test
+	public void undoRestoresRemovedObjectAtItsPosition() {
+		final World world = new World();
+		final GraphicObject first = triangle();
+		final GraphicObject second = triangle();
+		final GraphicObject third = triangle();
+		world.add(first);
+		world.add(second);
+		world.add(third);
+		final EditJournal journal = new EditJournal(10);
+
+		world.remove(second);
+		journal.objectRemoved(world, null, second, 1);
+		journal.undo();
+
+		assertEquals(3, world.getObjects().size());
+		assertSame(second, world.getObjects().get(1));
+
+		assertNull(journal.redo());
+		assertEquals(2, world.getObjects().size());
+		assertFalse(world.getObjects().contains(second));
+	}
+
+	private static void assertVertices(final GraphicObject object, final int... coords) {
+		final int[] actual = new int[object.getVertexCount() * 2];
+		for (int i = 0; i < object.getVertexCount(); i++) {
+			actual[i * 2] = object.getVertex(i).getX();
+			actual[i * 2 + 1] = object.getVertex(i).getY();
+		}
+		assertArrayEquals(coords, actual);
+	}
+
+	private static GraphicObject triangle() {
+		final GraphicObject object = new GraphicObject();
+		object.createVertexAt(new Point4D(0, 0));
+		object.createVertexAt(new Point4D(10, 0));
+		object.createVertexAt(new Point4D(0, 10));
+		return object;
+	}
+}
@@ -0,0 +1,48 @@
+package main.view;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import javax.media.opengl.GL;
+
+import org.junit.Test;
+
+import main.Camera;
+import main.GraphicObject;
+import main.Point4D;
+import main.World;
+
+public class SoftwareRenderTest {
+
+	private static final int WHITE = 0xFFFFFFFF;
+
+	@Test
+	public void drawsTheOutlineOfAWorld() {
+		final World world = new World();
+		final GraphicObject square = new GraphicObject();
+		square.createVertexAt(new Point4D(20, 20));
+		square.createVertexAt(new Point4D(60, 20));
+		square.createVertexAt(new Point4D(60, 60));
+		square.createVertexAt(new Point4D(20, 60));
+		square.setPrimitive(GL.GL_LINE_LOOP);
+		world.add(square);
+
+		final SoftwareRender render = new SoftwareRender(100, 100);
+		final int[] pixels = render.render(new Camera(0, 100, 0, 100), world);
+
+		assertEquals(WHITE, pixels[50 * 100 + 40]);
+		assertEquals(WHITE, pixels[50 * 100 + 5]);
+		assertNotEquals(WHITE, darkest(pixels, 50 * 100 + 18, 5));
+		assertNotEquals(WHITE, darkest(pixels, 50 * 100 + 58, 5));
+	}
+
+	private static int darkest(final int[] pixels, final int from, final int count) {
+		int darkest = WHITE;
+		for (int i = from; i < from + count; i++) {
+			if ((pixels[i] & 0xFFFFFF) < (darkest & 0xFFFFFF)) {
+				darkest = pixels[i];
+			}
+		}
+		return darkest;
+	}
+}
@@ -0,0 +1,214 @@
+package main;
+
+/**
+ * Transformao afim em duas dimenses, representada por uma matriz 3x2:
+ *
+ * <pre>
+ * | m00 m01 m02 |
+ * | m10 m11 m12 |
+ * </pre>
+ *
+ *  o caso comum das transformaes do editor (translao, rotao em Z e
+ * escala em XY) e evita as 64 multiplicaes da matriz 4x4 da
+ * {@link Transform}. Todas as operaes alteram a prpria instncia, sem
+ * alocar objetos.
+ */
+public class Affine2D {
+
+	private double m00 = 1;
+	private double m01;
+	private double m02;
+	private double m10;
+	private double m11 = 1;
+	private double m12;
+
+	public void setIdentity() {
+		m00 = m11 = 1;
+		m01 = m02 = m10 = m12 = 0;
+	}
+
+	/**
+	 * Atribui uma translao.
+	 *
+	 * @param tx
+	 *            translao em X
+	 * @param ty
+	 *            translao em Y
+	 */
+	public void setTranslation(double tx, double ty) {
+		setIdentity();
+		m02 = tx;
+		m12 = ty;
+	}
+
+	/**
+	 * Atribui uma rotao em torno de um ponto.
+	 *
+	 * @param radians
+	 *            ngulo em radianos
+	 * @param cx
+	 *            X do centro da rotao
+	 * @param cy
+	 *            Y do centro da rotao
+	 */
+	public void setRotation(double radians, double cx, double cy) {
+		final double cos = Math.cos(radians);
+		final double sin = Math.sin(radians);
+		m00 = cos;
+		m01 = -sin;
+		m10 = sin;
+		m11 = cos;
+		m02 = cx - cos * cx + sin * cy;
+		m12 = cy - sin * cx - cos * cy;
+	}
+
+	/**
+	 * Atribui uma escala uniforme em torno de um ponto.
+	 *
+	 * @param scale
+	 *            escala, sendo 1 a escala original
+	 * @param cx
+	 *            X do centro da escala
+	 * @param cy
+	 *            Y do centro da escala
+	 */
+	public void setScale(double scale, double cx, double cy) {
+		m00 = scale;
+		m01 = 0;
+		m10 = 0;
+		m11 = scale;
+		m02 = cx - scale * cx;
+		m12 = cy - scale * cy;
+	}
+
+	/**
+	 * Atribui todos os elementos da matriz.
+	 *
+	 * @param m00
+	 *            escala/rotao de X em X
+	 * @param m01
+	 *            contribuio de Y em X
+	 * @param m02
+	 *            translao em X
+	 * @param m10
+	 *            contribuio de X em Y
+	 * @param m11
+	 *            escala/rotao de Y em Y
+	 * @param m12
+	 *            translao em Y
+	 */
+	public void set(double m00, double m01, double m02, double m10, double m11, double m12) {
+		this.m00 = m00;
+		this.m01 = m01;
+		this.m02 = m02;
+		this.m10 = m10;
+		this.m11 = m11;
+		this.m12 = m12;
+	}
+
+	/**
+	 * Copia outra transformao.
+	 *
+	 * @param other
+	 *            transformao de origem
+	 */
+	public void set(Affine2D other) {
+		set(other.m00, other.m01, other.m02, other.m10, other.m11, other.m12);
+	}
+
+	/**
+	 * Copia a parte 2D de uma {@link Transform}.
+	 *
+	 * @param transform
+	 *            transformao de origem
+	 */
+	public void set(Transform transform) {
+		m00 = transform.getElement(0);
+		m01 = transform.getElement(4);
+		m02 = transform.getElement(12);
+		m10 = transform.getElement(1);
+		m11 = transform.getElement(5);
+		m12 = transform.getElement(13);
+	}
+
+	/**
+	 * Aplica esta transformao em um ponto.
+	 *
+	 * @param x
+	 *            X do ponto
+	 * @param y
+	 *            Y do ponto
+	 * @param out
+	 *            recebe X e Y transformados nas posies 0 e 1
+	 */
+	public void transformPoint(double x, double y, double[] out) {
+		out[0] = m00 * x + m01 * y + m02;
+		out[1] = m10 * x + m11 * y + m12;
+	}
+
+	/**
+	 * Multiplica uma {@link Transform} por esta transformao, guardando o
+	 * resultado na prpria {@link Transform} (<code>t = t * this</code>).
+	 *
+	 * @param t
+	 *            transformao a ser alterada
+	 */
+	public void concatenateTo(Transform t) {
+		final double[] m = t.getDate();
+		for (int row = 0; row < 4; row++) {
+			final double a = m[row];
+			final double b = m[row + 4];
+			m[row] = a * m00 + b * m10;
+			m[row + 4] = a * m01 + b * m11;
+			m[row + 12] = a * m02 + b * m12 + m[row + 12];
+		}
+		t.changed();
+	}
+
+	/**
+	 * Multiplica esta transformao por uma {@link Transform}, guardando o
+	 * resultado na prpria {@link Transform} (<code>t = this * t</code>), ou
+	 * seja, aplica esta transformao depois de <code>t</code>.
+	 *
+	 * @param t
+	 *            transformao a ser alterada
+	 */
+	public void preConcatenateTo(Transform t) {
+		final double[] m = t.getDate();
+		for (int col = 0; col < 16; col += 4) {
+			final double x = m[col];
+			final double y = m[col + 1];
+			final double w = m[col + 3];
+			m[col] = m00 * x + m01 * y + m02 * w;
+			m[col + 1] = m10 * x + m11 * y + m12 * w;
+		}
+		t.changed();
+	}
+
+	/**
+	 * Grava nesta transformao o produto <code>a * b</code>. Esta
+	 * transformao pode ser a prpria <code>a</code> ou <code>b</code>.
+	 *
+	 * @param a
+	 *            matriz da esquerda
+	 * @param b
+	 *            matriz da direita
+	 */
+	public void multiply(Affine2D a, Affine2D b) {
+		set(a.m00 * b.m00 + a.m01 * b.m10, a.m00 * b.m01 + a.m01 * b.m11, a.m00 * b.m02 + a.m01 * b.m12 + a.m02,
+				a.m10 * b.m00 + a.m11 * b.m10, a.m10 * b.m01 + a.m11 * b.m11, a.m10 * b.m02 + a.m11 * b.m12 + a.m12);
+	}
+
+	/**
+	 * Inverte esta transformao. Uma matriz singular resulta na identidade.
+	 */
+	public void invert() {
+		final double det = m00 * m11 - m01 * m10;
+		if (det == 0) {
+			setIdentity();
+			return;
+		}
+		set(m11 / det, -m01 / det, (m01 * m12 - m11 * m02) / det, -m10 / det, m00 / det,
+				(m10 * m02 - m00 * m12) / det);
+	}
+}
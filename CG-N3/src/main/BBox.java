@@ -62,17 +62,35 @@ public class BBox implements Drawable, Comparable<BBox> {
 	}
 
 	public boolean contains(final Point4D ponto) {
-		final int x = ponto.getX();
+		return contains(ponto.getX(), ponto.getY());
+	}
+
+	public boolean contains(final int x, final int y) {
 		if (x > maxX || x < minX) {
 			return false;
 		}
-		final int y = ponto.getY();
 		if (y > maxY || y < minY) {
 			return false;
 		}
 		return true;
 	}
 
+	public int getMinX() {
+		return minX;
+	}
+
+	public int getMinY() {
+		return minY;
+	}
+
+	public int getMaxX() {
+		return maxX;
+	}
+
+	public int getMaxY() {
+		return maxY;
+	}
+
 	public void setTransform(Transform transform) {
 		this.transform = transform;
 	}
@@ -0,0 +1,442 @@
+package main;
+
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.media.opengl.GL;
+
+import com.sun.opengl.util.BufferUtil;
+
+import main.opengl.VertexBuffer;
+
+/**
+ * Desenha um {@link World} agrupando os objetos em poucas chamadas de
+ * desenho.
+ * <p>
+ * Os vrtices dos objetos visveis so transformados para o espao do mundo
+ * na CPU e copiados para um buffer por tipo de primitiva e espessura de
+ * linha, com a cor de cada vrtice. <code>GL_LINE_STRIP</code>,
+ * <code>GL_LINE_LOOP</code> e <code>GL_LINES</code> viram segmentos de um
+ * nico <code>GL_LINES</code> e <code>GL_POINTS</code> vo para um nico
+ * <code>GL_POINTS</code>, sem trocas de matriz ou de estado entre os objetos.
+ * Objetos com outras primitivas so desenhados individualmente depois dos
+ * grupos, com vrtices imediatos.
+ * <p>
+ * Cada grupo  dividido em trechos de cerca de {@value #CHUNK_VERTICES}
+ * vrtices, guardados em um {@link VertexBuffer} quando o contexto suporta.
+ * Ao montar os grupos, um trecho cujos objetos, na mesma ordem, no mudaram
+ * desde a montagem anterior mantm os vrtices j copiados e no  reenviado
+ * para a placa de vdeo: editar um objeto reenvia somente o trecho dele e
+ * um lote carregado reenvia somente os trechos do final. Um objeto que entra
+ * ou sai do meio de um grupo, por exemplo ao mover a cmera, muda todos os
+ * trechos seguintes do grupo.
+ * <p>
+ * Como os grupos so desenhados um depois do outro, a ordem de desenho entre
+ * objetos de grupos diferentes pode mudar em relao a
+ * {@link World#draw(GL)}.
+ * <p>
+ * Os grupos so guardados entre os quadros e s so montados de novo quando
+ * a lista de objetos do mundo ou a janela da cmera mudam, ou depois de
+ * {@link #invalidate()}, que deve ser chamado quando os objetos so editados.
+ * Nos demais quadros, por exemplo os que s mudam a indicao sob o mouse,
+ * os grupos j montados so desenhados de novo sem percorrer o mundo.
+ */
+public class BatchRenderer implements Drawable {
+
+	/** Vrtices a partir dos quais um trecho no recebe mais objetos. */
+	static final int CHUNK_VERTICES = 1 << 16;
+
+	private final World world;
+	private final List<Batch> batches = new ArrayList<>();
+	private final List<GraphicObject> unbatched = new ArrayList<>();
+	private int drawCallCount;
+	private int uploadCount;
+	/* Estado do mundo e da cmera em que os grupos foram montados */
+	private volatile boolean dirty = true;
+	private long builtVersion;
+	private final ViewFrustum built = new ViewFrustum();
+
+	public BatchRenderer(final World world) {
+		this.world = world;
+	}
+
+	/**
+	 * Faz os grupos serem montados de novo no prximo desenho. Pode ser
+	 * chamado de qualquer thread.
+	 */
+	@Override
+	public void invalidate() {
+		dirty = true;
+	}
+
+	@Override
+	public void draw(final GL gl) {
+		final ViewFrustum frustum = world.prepareDraw();
+		final long version = world.getVersion();
+		if (dirty || version != builtVersion || !frustum.sameView(built)) {
+			dirty = false;
+			builtVersion = version;
+			collect(frustum);
+			built.set(frustum);
+		}
+
+		final boolean vertexArrays = gl.isFunctionAvailable("glDrawArrays");
+		final boolean buffers = vertexArrays && VertexBuffer.isSupported(gl);
+		drawCallCount = unbatched.size();
+		uploadCount = 0;
+		for (Batch batch : batches) {
+			drawCallCount += batch.draw(gl, vertexArrays, buffers);
+		}
+		for (GraphicObject object : unbatched) {
+			object.drawAlone(gl);
+		}
+		Metrics.getDefault().objects(built.getDrawnCount(), built.getCulledCount());
+	}
+
+	private void collect(final ViewFrustum frustum) {
+		for (Batch batch : batches) {
+			batch.begin();
+		}
+		unbatched.clear();
+		for (GraphicObject object : world.getObjects()) {
+			object.collectBatches(this, frustum);
+		}
+		for (Batch batch : batches) {
+			batch.end();
+		}
+	}
+
+	/**
+	 * @return quantidade de trechos enviados para a placa de vdeo no ltimo
+	 *         desenho.
+	 */
+	int getUploadCount() {
+		return uploadCount;
+	}
+
+	/**
+	 * @return quantidade de chamadas de desenho feitas no ltimo desenho.
+	 */
+	public int getDrawCallCount() {
+		return drawCallCount;
+	}
+
+	/**
+	 * Obtm o grupo de uma primitiva e espessura.
+	 *
+	 * @return grupo que recebe os vrtices, ou <code>null</code> se a
+	 *         primitiva no pode ser agrupada.
+	 */
+	Batch batchFor(final int primitive, final float lineWidth) {
+		final int mode;
+		switch (primitive) {
+		case GL.GL_LINE_STRIP:
+		case GL.GL_LINE_LOOP:
+		case GL.GL_LINES:
+			mode = GL.GL_LINES;
+			break;
+		case GL.GL_POINTS:
+			mode = GL.GL_POINTS;
+			break;
+		default:
+			return null;
+		}
+		for (Batch batch : batches) {
+			if (batch.mode == mode && batch.lineWidth == lineWidth) {
+				return batch;
+			}
+		}
+		final Batch batch = new Batch(mode, lineWidth);
+		batches.add(batch);
+		return batch;
+	}
+
+	void addUnbatched(final GraphicObject object) {
+		unbatched.add(object);
+	}
+
+	/**
+	 * Vrtices j transformados de todos os objetos de uma primitiva e
+	 * espessura, com a cor de cada vrtice, divididos em trechos.
+	 */
+	final class Batch {
+
+		private final int mode;
+		private final float lineWidth;
+		private final List<Chunk> chunks = new ArrayList<>();
+		/** Trechos usados na montagem atual. */
+		private int used;
+
+		private Batch(final int mode, final float lineWidth) {
+			this.mode = mode;
+			this.lineWidth = lineWidth;
+		}
+
+		private void begin() {
+			used = 0;
+		}
+
+		/**
+		 * Termina a montagem, liberando os trechos que no foram usados.
+		 */
+		private void end() {
+			for (int i = 0; i < used; i++) {
+				chunks.get(i).end();
+			}
+			while (chunks.size() > used) {
+				chunks.remove(chunks.size() - 1).buffer.release();
+			}
+		}
+
+		/**
+		 * Adiciona os vrtices de um objeto, convertendo a primitiva do objeto
+		 * para a primitiva do grupo. Se o objeto ocupa a mesma posio da
+		 * montagem anterior e no mudou, os vrtices j copiados so mantidos.
+		 *
+		 * @param object
+		 *            objeto dono dos vrtices.
+		 * @param stamp
+		 *            marca das alteraes do objeto que mudam o desenho.
+		 * @param level
+		 *            nvel de detalhe dos vrtices.
+		 * @param vertices
+		 *            vrtices no espao local do objeto.
+		 * @param m
+		 *            matriz do espao local para o espao do mundo.
+		 * @param color
+		 *            cor RGB do objeto.
+		 * @param primitive
+		 *            primitiva original do objeto.
+		 */
+		void append(final GraphicObject object, final int stamp, final int level, final VertexArray vertices,
+				final double[] m, final float[] color, final int primitive) {
+			Chunk chunk = used == 0 ? null : chunks.get(used - 1);
+			if (chunk == null || chunk.vertexCount >= CHUNK_VERTICES) {
+				if (used == chunks.size()) {
+					chunks.add(new Chunk());
+				}
+				chunk = chunks.get(used++);
+				chunk.begin();
+			}
+			if (!chunk.reuse(object, stamp, level)) {
+				chunk.append(vertices, m, color, primitive);
+				chunk.record(object, stamp, level);
+			}
+		}
+
+		/**
+		 * Desenha os trechos do grupo, com uma chamada por trecho.
+		 *
+		 * @return quantidade de chamadas de desenho.
+		 */
+		private int draw(final GL gl, final boolean vertexArrays, final boolean buffers) {
+			int calls = 0;
+			for (int i = 0; i < used; i++) {
+				final Chunk chunk = chunks.get(i);
+				if (chunk.vertexCount > 0) {
+					gl.glLineWidth(lineWidth);
+					gl.glPointSize(lineWidth);
+					chunk.draw(gl, mode, vertexArrays, buffers);
+					calls++;
+				}
+			}
+			return calls;
+		}
+	}
+
+	/**
+	 * Parte dos vrtices de um grupo, com os objetos que a formaram na ordem
+	 * em que foram adicionados.
+	 */
+	private final class Chunk {
+
+		private static final int COORDS_PER_VERTEX = 2;
+		private static final int BYTES_PER_COLOR = 4;
+
+		private FloatBuffer positions = BufferUtil.newFloatBuffer(1024 * COORDS_PER_VERTEX);
+		private ByteBuffer colors = BufferUtil.newByteBuffer(1024 * BYTES_PER_COLOR);
+		private int vertexCount;
+		private final VertexBuffer buffer = new VertexBuffer();
+		/* Objetos do trecho e o estado de cada um quando foi copiado */
+		private GraphicObject[] objects = new GraphicObject[16];
+		private int[] stamps = new int[16];
+		private int[] levels = new int[16];
+		/** Quantidade de vrtices do trecho depois de cada objeto. */
+		private int[] ends = new int[16];
+		private int objectCount;
+		/** Objetos da montagem anterior. */
+		private int previousCount;
+		/** Todos os objetos at agora coincidem com a montagem anterior. */
+		private boolean unchanged;
+
+		private void begin() {
+			previousCount = objectCount;
+			objectCount = 0;
+			vertexCount = 0;
+			unchanged = true;
+		}
+
+		private void end() {
+			if (objectCount != previousCount) {
+				buffer.invalidate();
+			}
+			Arrays.fill(objects, objectCount, Math.max(objectCount, previousCount), null);
+		}
+
+		/**
+		 * Mantm os vrtices de um objeto que est na mesma posio e no mudou
+		 * desde a montagem anterior.
+		 *
+		 * @return <code>true</code> se os vrtices foram mantidos.
+		 */
+		private boolean reuse(final GraphicObject object, final int stamp, final int level) {
+			final int index = objectCount;
+			if (unchanged && index < previousCount && objects[index] == object && stamps[index] == stamp
+					&& levels[index] == level) {
+				vertexCount = ends[index];
+				objectCount++;
+				return true;
+			}
+			if (unchanged) {
+				unchanged = false;
+				buffer.invalidate();
+			}
+			return false;
+		}
+
+		private void record(final GraphicObject object, final int stamp, final int level) {
+			if (objectCount == objects.length) {
+				final int capacity = objectCount * 2;
+				objects = Arrays.copyOf(objects, capacity);
+				stamps = Arrays.copyOf(stamps, capacity);
+				levels = Arrays.copyOf(levels, capacity);
+				ends = Arrays.copyOf(ends, capacity);
+			}
+			objects[objectCount] = object;
+			stamps[objectCount] = stamp;
+			levels[objectCount] = level;
+			ends[objectCount] = vertexCount;
+			objectCount++;
+		}
+
+		private void append(final VertexArray vertices, final double[] m, final float[] color, final int primitive) {
+			final int size = vertices.size();
+			final int r = Math.round(color[0] * 255f);
+			final int g = Math.round(color[1] * 255f);
+			final int b = Math.round(color[2] * 255f);
+			switch (primitive) {
+			case GL.GL_POINTS:
+				ensureCapacity(size);
+				for (int i = 0; i < size; i++) {
+					put(vertices, i, m, r, g, b);
+				}
+				break;
+			case GL.GL_LINES:
+				ensureCapacity(size);
+				for (int i = 1; i < size; i += 2) {
+					put(vertices, i - 1, m, r, g, b);
+					put(vertices, i, m, r, g, b);
+				}
+				break;
+			default:
+				final boolean loop = primitive == GL.GL_LINE_LOOP && size > 2;
+				ensureCapacity(2 * size);
+				for (int i = 1; i < size; i++) {
+					put(vertices, i - 1, m, r, g, b);
+					put(vertices, i, m, r, g, b);
+				}
+				if (loop) {
+					put(vertices, size - 1, m, r, g, b);
+					put(vertices, 0, m, r, g, b);
+				}
+				break;
+			}
+		}
+		private void put(final VertexArray vertices, final int index, final double[] m, final int r, final int g,
+				final int b) {
+			final int x = vertices.getX(index);
+			final int y = vertices.getY(index);
+			final int position = vertexCount * COORDS_PER_VERTEX;
+			positions.put(position, (float) (m[0] * x + m[4] * y + m[12]));
+			positions.put(position + 1, (float) (m[1] * x + m[5] * y + m[13]));
+			final int color = vertexCount * BYTES_PER_COLOR;
+			colors.put(color, (byte) r);
+			colors.put(color + 1, (byte) g);
+			colors.put(color + 2, (byte) b);
+			colors.put(color + 3, (byte) 255);
+			vertexCount++;
+		}
+
+		private void ensureCapacity(final int extraVertices) {
+			final int needed = vertexCount + extraVertices;
+			final int capacity = positions.capacity() / COORDS_PER_VERTEX;
+			if (needed <= capacity) {
+				return;
+			}
+			final int newCapacity = Math.max(needed, capacity * 2);
+			final FloatBuffer newPositions = BufferUtil.newFloatBuffer(newCapacity * COORDS_PER_VERTEX);
+			positions.clear();
+			positions.limit(vertexCount * COORDS_PER_VERTEX);
+			newPositions.put(positions);
+			positions = newPositions;
+			final ByteBuffer newColors = BufferUtil.newByteBuffer(newCapacity * BYTES_PER_COLOR);
+			colors.clear();
+			colors.limit(vertexCount * BYTES_PER_COLOR);
+			newColors.put(colors);
+			colors = newColors;
+		}
+
+		/**
+		 * Desenha o trecho com uma nica chamada. Com buffer objects, os
+		 * vrtices s so enviados se o trecho mudou ou o buffer foi criado
+		 * agora. Sem vertex arrays, por exemplo em um
+		 * {@link main.opengl.SoftwareGL}, os vrtices so enviados um a um,
+		 * mas ainda em um nico <code>glBegin</code>.
+		 */
+		private void draw(final GL gl, final int mode, final boolean vertexArrays, final boolean buffers) {
+			Metrics.getDefault().drawCall(vertexCount);
+			if (buffers) {
+				final int positionBytes = vertexCount * COORDS_PER_VERTEX * BufferUtil.SIZEOF_FLOAT;
+				final int colorBytes = vertexCount * BYTES_PER_COLOR;
+				if (buffer.bind(gl)) {
+					positions.clear();
+					colors.clear();
+					gl.glBufferData(GL.GL_ARRAY_BUFFER, positionBytes + colorBytes, null, GL.GL_STATIC_DRAW);
+					gl.glBufferSubData(GL.GL_ARRAY_BUFFER, 0, positionBytes, positions);
+					gl.glBufferSubData(GL.GL_ARRAY_BUFFER, positionBytes, colorBytes, colors);
+					uploadCount++;
+				}
+				gl.glEnableClientState(GL.GL_VERTEX_ARRAY);
+				gl.glEnableClientState(GL.GL_COLOR_ARRAY);
+				gl.glVertexPointer(COORDS_PER_VERTEX, GL.GL_FLOAT, 0, 0L);
+				gl.glColorPointer(BYTES_PER_COLOR, GL.GL_UNSIGNED_BYTE, 0, positionBytes);
+				gl.glDrawArrays(mode, 0, vertexCount);
+				gl.glDisableClientState(GL.GL_COLOR_ARRAY);
+				gl.glDisableClientState(GL.GL_VERTEX_ARRAY);
+				gl.glBindBuffer(GL.GL_ARRAY_BUFFER, 0);
+			} else if (vertexArrays) {
+				positions.clear();
+				colors.clear();
+				gl.glEnableClientState(GL.GL_VERTEX_ARRAY);
+				gl.glEnableClientState(GL.GL_COLOR_ARRAY);
+				gl.glVertexPointer(COORDS_PER_VERTEX, GL.GL_FLOAT, 0, positions);
+				gl.glColorPointer(BYTES_PER_COLOR, GL.GL_UNSIGNED_BYTE, 0, colors);
+				gl.glDrawArrays(mode, 0, vertexCount);
+				gl.glDisableClientState(GL.GL_COLOR_ARRAY);
+				gl.glDisableClientState(GL.GL_VERTEX_ARRAY);
+			} else {
+				gl.glBegin(mode);
+				for (int i = 0; i < vertexCount; i++) {
+					final int color = i * BYTES_PER_COLOR;
+					gl.glColor3f((colors.get(color) & 0xFF) / 255f, (colors.get(color + 1) & 0xFF) / 255f,
+							(colors.get(color + 2) & 0xFF) / 255f);
+					gl.glVertex2f(positions.get(i * COORDS_PER_VERTEX), positions.get(i * COORDS_PER_VERTEX + 1));
+				}
+				gl.glEnd();
+			}
+		}
+	}
+}
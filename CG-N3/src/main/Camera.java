@@ -5,6 +5,8 @@ public class Camera {
 	private final float[] axisSizes = new float[4];
 	private final float[] axisMinSizes = { -100.0f, 100.0f, -100.0f, 100.0f };
 	private final float[] axisMaxSizes = { -5000.0f, 5000.0f, -5000.0f, 5000.0f };
+	private int viewportWidth;
+	private int viewportHeight;
 
 	public Camera() {
 		this(-400.0f, 400.0f, -400.0f, 400.0f);
@@ -75,6 +77,41 @@ public class Camera {
 		return Math.abs(axisSizes[2] - axisSizes[3]);
 	}
 
+	/**
+	 * Informa o tamanho em pixels da rea onde a cmera  desenhada.
+	 * 
+	 * @param width
+	 *            largura em pixels
+	 * @param height
+	 *            altura em pixels
+	 */
+	public void setViewportSize(int width, int height) {
+		viewportWidth = width;
+		viewportHeight = height;
+	}
+
+	public int getViewportWidth() {
+		return viewportWidth;
+	}
+
+	public int getViewportHeight() {
+		return viewportHeight;
+	}
+
+	/**
+	 * Obtm quantas unidades do mundo cabem em um pixel, no eixo em que a
+	 * cmera est mais afastada.
+	 * 
+	 * @return unidades do mundo por pixel, ou zero se o tamanho em pixels no
+	 *         foi informado
+	 */
+	public float getUnitsPerPixel() {
+		if (viewportWidth <= 0 || viewportHeight <= 0) {
+			return 0;
+		}
+		return Math.max(getCameraWidth() / viewportWidth, getCameraHeight() / viewportHeight);
+	}
+
 	private void modifyPan(int axis, float zoom) {
 		axisMaxSizes[axis] += zoom;
 		axisMinSizes[axis] += zoom;
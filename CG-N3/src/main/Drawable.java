@@ -15,4 +15,12 @@ public interface Drawable {
 	 *            {@link GL} a receber o desenho.
 	 */
 	public void draw(final GL gl);
+
+	/**
+	 * Avisa que o que foi desenhado mudou, por exemplo depois de uma edio,
+	 * e que dados guardados de desenhos anteriores no valem mais. A camada do
+	 * {@link main.view.Render} chama este mtodo ao ser invalidada.
+	 */
+	default void invalidate() {
+	}
 }
@@ -0,0 +1,197 @@
+package main;
+
+import java.util.Arrays;
+
+/**
+ * Tabela das arestas de um polgono fechado, usada para verificar se um ponto
+ * est dentro dele.
+ * <p>
+ * As arestas so separadas em faixas horizontais de mesma altura. Uma
+ * consulta testa somente as arestas da faixa do ponto, em vez de todas as
+ * arestas do polgono. Cada aresta guarda a ponta de baixo e o deslocamento
+ * em X at a ponta de cima; o cruzamento  calculado s com inteiros, sem
+ * divises e sem erros de arredondamento.
+ * <p>
+ * Cada aresta vale para o intervalo semiaberto <code>[menor Y, maior Y)</code>.
+ * Com isso as arestas horizontais nunca so cruzadas, e um vrtice exatamente
+ * na altura do ponto  contado uma nica vez.
+ */
+public class EdgeTable {
+
+	/** Limite mdio de faixas por aresta, para arestas muito longas. */
+	private static final int MAX_BUCKETS_PER_EDGE = 8;
+
+	private int edgeCount;
+	private int[] lowY = new int[0];
+	private int[] highY = new int[0];
+	private int[] lowX = new int[0];
+	/** Deslocamento em X da ponta de baixo at a ponta de cima. */
+	private int[] deltaX = new int[0];
+	/** Direo da aresta: 1 se sobe, -1 se desce. */
+	private byte[] direction = new byte[0];
+
+	private int minY;
+	private int maxY;
+	private int bucketCount;
+	/** Incio das arestas de cada faixa em bucketEdges. */
+	private int[] bucketStart = new int[1];
+	private int[] bucketEdges = new int[0];
+	private boolean dirty = true;
+
+	/**
+	 * Marca a tabela para ser reconstruda antes da prxima consulta.
+	 */
+	public void invalidate() {
+		dirty = true;
+	}
+
+	public boolean isDirty() {
+		return dirty;
+	}
+
+	/**
+	 * Reconstri a tabela com as arestas do polgono fechado formado pelos
+	 * vrtices, incluindo a aresta do ltimo ao primeiro vrtice.
+	 *
+	 * @param vertices
+	 *            vrtices do polgono.
+	 */
+	public void build(final VertexArray vertices) {
+		dirty = false;
+		final int size = vertices.size();
+		ensureEdgeCapacity(size);
+		edgeCount = 0;
+		minY = Integer.MAX_VALUE;
+		maxY = Integer.MIN_VALUE;
+		for (int i = 0; i < size; i++) {
+			final int next = i < size - 1 ? i + 1 : 0;
+			final int x0 = vertices.getX(i);
+			final int y0 = vertices.getY(i);
+			final int x1 = vertices.getX(next);
+			final int y1 = vertices.getY(next);
+			if (y0 == y1) {
+				continue;
+			}
+			final int edge = edgeCount++;
+			if (y0 < y1) {
+				lowY[edge] = y0;
+				highY[edge] = y1;
+				lowX[edge] = x0;
+				deltaX[edge] = x1 - x0;
+				direction[edge] = 1;
+			} else {
+				lowY[edge] = y1;
+				highY[edge] = y0;
+				lowX[edge] = x1;
+				deltaX[edge] = x0 - x1;
+				direction[edge] = -1;
+			}
+			minY = Math.min(minY, lowY[edge]);
+			maxY = Math.max(maxY, highY[edge]);
+		}
+		if (edgeCount == 0) {
+			bucketCount = 0;
+			return;
+		}
+
+		final long range = (long) maxY - minY;
+		bucketCount = (int) Math.max(1, Math.min(range, edgeCount / 2));
+		long entries = countEntries();
+		while (entries > (long) MAX_BUCKETS_PER_EDGE * edgeCount && bucketCount > 1) {
+			bucketCount /= 2;
+			entries = countEntries();
+		}
+		fillBuckets((int) entries);
+	}
+
+	/**
+	 * Verifica se um ponto est dentro do polgono. O ponto  testado contra
+	 * uma semirreta horizontal para a direita.
+	 *
+	 * @param x
+	 *            coordenada X do ponto.
+	 * @param y
+	 *            coordenada Y do ponto.
+	 * @param rule
+	 *            regra de preenchimento.
+	 * @return <code>true</code> se o ponto est dentro, <code>false</code> de
+	 *         outra maneira.
+	 */
+	public boolean contains(final int x, final int y, final FillRule rule) {
+		if (edgeCount == 0 || y < minY || y >= maxY) {
+			return false;
+		}
+		final int bucket = bucketOf(y);
+		int crossings = 0;
+		int winding = 0;
+		for (int i = bucketStart[bucket]; i < bucketStart[bucket + 1]; i++) {
+			final int edge = bucketEdges[i];
+			if (y < lowY[edge] || y >= highY[edge]) {
+				continue;
+			}
+			/*
+			 * O X da aresta na altura y, lowX + (y - lowY) * deltaX / deltaY, 
+			 * maior ou igual a x; multiplicado por deltaY, que  positivo.
+			 */
+			final long deltaY = (long) highY[edge] - lowY[edge];
+			if (((long) lowX[edge] - x) * deltaY + ((long) y - lowY[edge]) * deltaX[edge] >= 0) {
+				crossings++;
+				winding += direction[edge];
+			}
+		}
+		return rule == FillRule.NON_ZERO ? winding != 0 : (crossings & 1) != 0;
+	}
+
+	private int bucketOf(final int y) {
+		return (int) ((y - (long) minY) * bucketCount / ((long) maxY - minY));
+	}
+
+	private long countEntries() {
+		long entries = 0;
+		for (int edge = 0; edge < edgeCount; edge++) {
+			entries += bucketOf(highY[edge] - 1) - bucketOf(lowY[edge]) + 1;
+		}
+		return entries;
+	}
+
+	private void fillBuckets(final int entries) {
+		if (bucketStart.length < bucketCount + 1) {
+			bucketStart = new int[bucketCount + 1];
+		}
+		if (bucketEdges.length < entries) {
+			bucketEdges = new int[entries];
+		}
+		final int[] start = bucketStart;
+		Arrays.fill(start, 0, bucketCount + 1, 0);
+		for (int edge = 0; edge < edgeCount; edge++) {
+			final int last = bucketOf(highY[edge] - 1);
+			for (int bucket = bucketOf(lowY[edge]); bucket <= last; bucket++) {
+				start[bucket + 1]++;
+			}
+		}
+		for (int bucket = 0; bucket < bucketCount; bucket++) {
+			start[bucket + 1] += start[bucket];
+		}
+		/* Usa o incio de cada faixa como posio de escrita e depois desfaz */
+		for (int edge = 0; edge < edgeCount; edge++) {
+			final int last = bucketOf(highY[edge] - 1);
+			for (int bucket = bucketOf(lowY[edge]); bucket <= last; bucket++) {
+				bucketEdges[start[bucket]++] = edge;
+			}
+		}
+		for (int bucket = bucketCount; bucket > 0; bucket--) {
+			start[bucket] = start[bucket - 1];
+		}
+		start[0] = 0;
+	}
+
+	private void ensureEdgeCapacity(final int capacity) {
+		if (lowY.length < capacity) {
+			lowY = new int[capacity];
+			highY = new int[capacity];
+			lowX = new int[capacity];
+			deltaX = new int[capacity];
+			direction = new byte[capacity];
+		}
+	}
+}
@@ -0,0 +1,21 @@
+package main;
+
+/**
+ * Regra usada para decidir se um ponto est dentro de um polgono.
+ */
+public enum FillRule {
+
+	/**
+	 * O ponto est dentro se uma semirreta a partir dele cruza as arestas uma
+	 * quantidade mpar de vezes. Regies sobrepostas de um polgono que cruza
+	 * a si mesmo ficam de fora.
+	 */
+	EVEN_ODD,
+
+	/**
+	 * O ponto est dentro se o polgono d alguma volta em torno dele, ou
+	 * seja, se a soma das arestas que sobem menos as que descem, cruzadas
+	 * pela semirreta, no  zero.
+	 */
+	NON_ZERO
+}
@@ -1,5 +1,7 @@
 package main;
 
+import java.nio.IntBuffer;
+import java.util.AbstractList;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -7,17 +9,66 @@ import javax.media.opengl.GL;
 
 public class GraphicObject implements Drawable {
 
-	private final LinkedList<Vertex> vertices = new LinkedList<>();
+	private final VertexArray vertices = new VertexArray();
 	private final float[] color = { 0f, 0f, 0f };
 	private final List<GraphicObject> objects = new LinkedList<>();
 	private int primitive = GL.GL_LINE_STRIP;
-	public Transform transform = new Transform();
+	private float lineWidth = 3f;
+	public final Transform transform = new Transform();
 	private BBox bbox;
+	private int minX;
+	private int minY;
+	private int maxX;
+	private int maxY;
+	/** Os limites precisam ser recalculados percorrendo todos os vrtices. */
+	private boolean boundsStale;
+	/** A {@link BBox} em cache no corresponde mais aos limites atuais. */
+	private boolean bboxDirty;
+	private GraphicObject parent;
+	private World world;
+	private final EdgeTable edgeTable = new EdgeTable();
+	private final VertexIndex vertexIndex = new VertexIndex();
+	private final int[] nearestVertex = new int[1];
+	private final LevelOfDetail levelOfDetail = new LevelOfDetail();
+	private FillRule fillRule = FillRule.EVEN_ODD;
+	/** Limites no mundo deste objeto. */
+	private final int[] ownBounds = new int[4];
+	/** Limites no mundo deste objeto e de todos os filhos. */
+	private final int[] subtreeBounds = new int[4];
+	private boolean hasSubtreeBounds;
+	private int subtreeSize;
+	/** Posio entre os objetos raiz do mundo, numerada pelo mundo. */
+	private int rootOrder;
+	/**
+	 * Muda a cada alterao no que  desenhado: vrtices, cor, primitiva,
+	 * espessura ou transformao acumulada. Usado pelo {@link BatchRenderer}
+	 * para saber se os vrtices copiados deste objeto ainda valem.
+	 */
+	private int drawStamp;
+	/**
+	 * Os limites no mundo deste objeto ou de algum descendente precisam ser
+	 * recalculados. Se um objeto est sujo, todos os seus pais tambm esto.
+	 */
+	private boolean hierarchyDirty = true;
+	/**
+	 * Transformao acumulada com os pais (pai x local), recalculada somente
+	 * quando este objeto ou algum pai  transformado.
+	 */
+	private final Transform worldTransform = new Transform();
+	private static final Transform IDENTITY = new Transform();
 
 	public void setColor(final float[] color) {
 		this.color[0] = color[0];
 		this.color[1] = color[1];
 		this.color[2] = color[2];
+		drawStamp++;
+	}
+
+	/**
+	 * @return cpia da cor RGB do objeto.
+	 */
+	public float[] getColor() {
+		return color.clone();
 	}
 
 	public void incRed() {
@@ -32,12 +83,81 @@ public class GraphicObject implements Drawable {
 		incColorAt(2);
 	}
 
-	public LinkedList<Vertex> getVertices() {
-		return vertices;
+	/**
+	 * Obtm uma viso somente leitura dos vrtices deste objeto. Cada
+	 * {@link Vertex}  criado no momento em que  acessado.
+	 * 
+	 * @return lista de vrtices.
+	 */
+	public List<Vertex> getVertices() {
+		return new AbstractList<Vertex>() {
+
+			@Override
+			public Vertex get(int index) {
+				return getVertex(index);
+			}
+
+			@Override
+			public int size() {
+				return vertices.size();
+			}
+		};
 	}
 
 	public void addGraphicObject(final GraphicObject object) {
-		objects.add(object);
+		addGraphicObject(objects.size(), object);
+	}
+
+	/**
+	 * Adiciona um filho em uma posio da lista de filhos.
+	 * 
+	 * @param index
+	 *            posio do filho, de 0 at a quantidade de filhos.
+	 * @param object
+	 *            filho a ser adicionado.
+	 */
+	public void addGraphicObject(final int index, final GraphicObject object) {
+		object.parent = this;
+		objects.add(index, object);
+		object.invalidateSubtree();
+		invalidateHierarchy();
+		if (world != null) {
+			world.attach(object);
+		}
+	}
+
+	/**
+	 * Remove um filho deste objeto, junto com os filhos dele.
+	 * 
+	 * @param object
+	 *            filho a ser removido.
+	 */
+	public void removeGraphicObject(final GraphicObject object) {
+		if (object.parent != this || !objects.remove(object)) {
+			return;
+		}
+		object.parent = null;
+		// Os limites guardados no filho ainda incluem a transformao deste pai
+		object.invalidateSubtree();
+		invalidateHierarchy();
+		if (world != null) {
+			world.detachChild(this, object);
+		}
+	}
+
+	public GraphicObject getParent() {
+		return parent;
+	}
+
+	void setWorld(final World world) {
+		this.world = world;
+	}
+
+	/**
+	 * @return mundo do qual este objeto faz parte, ou <code>null</code>.
+	 */
+	World getWorld() {
+		return world;
 	}
 
 	public List<GraphicObject> getGrapicObjects() {
@@ -54,15 +174,33 @@ public class GraphicObject implements Drawable {
 		float v = color[index];
 		v = v + 0.05f;
 		color[index] = v > 1 ? 0 : v;
+		drawStamp++;
 	}
 
+	/**
+	 * Obtm a {@link BBox} dos vrtices deste objeto. A mesma instncia 
+	 * retornada enquanto a geometria no mudar. Ela  desenhada com a
+	 * transformao acumulada dos pais.
+	 * 
+	 * @return {@link BBox} do objeto, ou <code>null</code> se o objeto no
+	 *         possui vrtices.
+	 */
 	public BBox getBBox() {
-		adjustBBox();
+		if (vertices.isEmpty()) {
+			return null;
+		}
+		if (boundsStale) {
+			adjustBBox();
+		}
+		if (bboxDirty || bbox == null) {
+			bbox = new BBox(minX, minY, 0, maxX, maxY, 0, worldTransform);
+			bboxDirty = false;
+		}
 		return bbox;
 	}
 
 	public boolean hasBBox() {
-		return bbox != null;
+		return !vertices.isEmpty();
 	}
 
 	private boolean isInvalidValidVertexPoint(final int index) {
@@ -70,24 +208,92 @@ public class GraphicObject implements Drawable {
 	}
 
 	public void updateVertexPointAt(final int index, final Point4D point) {
-		if (isInvalidValidVertexPoint(index) || point == null) {
+		if (point == null) {
 			return;
 		}
-		vertices.set(index, new Vertex(point, transform));
-		adjustBBox();
+		updateVertexPointAt(index, point.getX(), point.getY());
+	}
+
+	public void updateVertexPointAt(final int index, final int x, final int y) {
+		if (isInvalidValidVertexPoint(index)) {
+			return;
+		}
+		final int oldX = vertices.getX(index);
+		final int oldY = vertices.getY(index);
+		vertices.set(index, x, y);
+		vertexIndex.move(index, x, y);
+		/*
+		 * Se o vrtice era um dos extremos e foi movido para dentro, no h
+		 * como saber o novo extremo sem percorrer todos os vrtices.
+		 */
+		if ((oldX == minX && x > minX) || (oldX == maxX && x < maxX) || (oldY == minY && y > minY)
+				|| (oldY == maxY && y < maxY)) {
+			boundsStale = true;
+		} else {
+			extendBBox(x, y);
+		}
+		bboxDirty = true;
+		drawStamp++;
+		edgeTable.invalidate();
+		levelOfDetail.invalidate();
+		changed();
 	}
 
 	public void createVertexAt(final Point4D point) {
-		vertices.add(new Vertex(point, transform));
-		adjustBBox();
+		insertVertexAt(vertices.size(), point.getX(), point.getY());
+	}
+
+	/**
+	 * Insere um vrtice em uma posio, deslocando os seguintes.
+	 * 
+	 * @param index
+	 *            posio do novo vrtice, de 0 at a quantidade de vrtices.
+	 * @param x
+	 *            coordenada X no espao local.
+	 * @param y
+	 *            coordenada Y no espao local.
+	 */
+	public void insertVertexAt(final int index, final int x, final int y) {
+		vertices.insert(index, x, y);
+		if (index == vertices.size() - 1) {
+			vertexIndex.add(index, x, y);
+		} else {
+			vertexIndex.invalidate();
+		}
+		if (vertices.size() == 1) {
+			minX = maxX = x;
+			minY = maxY = y;
+			boundsStale = false;
+		} else {
+			extendBBox(x, y);
+		}
+		bboxDirty = true;
+		drawStamp++;
+		edgeTable.invalidate();
+		levelOfDetail.invalidate();
+		changed();
 	}
 
 	public void removeVertexAt(final int currentVertexIndex) {
 		if (isInvalidValidVertexPoint(currentVertexIndex)) {
 			return;
 		}
+		final int x = vertices.getX(currentVertexIndex);
+		final int y = vertices.getY(currentVertexIndex);
 		vertices.remove(currentVertexIndex);
-		adjustBBox();
+		if (currentVertexIndex == vertices.size()) {
+			vertexIndex.removeLast();
+		} else {
+			vertexIndex.invalidate();
+		}
+		if (x == minX || x == maxX || y == minY || y == maxY) {
+			boundsStale = true;
+		}
+		bboxDirty = true;
+		drawStamp++;
+		edgeTable.invalidate();
+		levelOfDetail.invalidate();
+		changed();
 	}
 
 	@Override
@@ -95,21 +301,284 @@ public class GraphicObject implements Drawable {
 		gl.glPushMatrix();
 
 		gl.glMultMatrixd(transform.getDate(), 0);
-		gl.glLineWidth(3f);
-		gl.glPointSize(3f);
+		drawVertices(gl, -1);
+		objects.forEach(o -> o.draw(gl));
 
-		gl.glBegin(primitive);
-		for (Vertex vertex : vertices) {
-			gl.glColor3f(color[0], color[1], color[2]);
-			gl.glVertex2d(vertex.getX(), vertex.getY());
+		gl.glPopMatrix();
+	}
+
+	/**
+	 * Desenha este objeto e seus filhos, descartando os que esto fora da
+	 * janela da cmera. Os limites devem ter sido atualizados antes com
+	 * {@link #refreshHierarchy(Transform)}.
+	 * <p>
+	 * Cada objeto desenhado usa a sua transformao acumulada, assim os
+	 * objetos descartados e os grupos sem vrtices no alteram a matriz do
+	 * OpenGL e a pilha de matrizes no cresce com a profundidade da rvore.
+	 * <p>
+	 * Os vrtices so enviados um a um; a janela desenha com o
+	 * {@link BatchRenderer}, que guarda os vrtices em buffers de vdeo.
+	 * 
+	 * @param gl
+	 *            {@link GL} a receber o desenho.
+	 * @param frustum
+	 *            janela visvel da cmera.
+	 */
+	void draw(final GL gl, final ViewFrustum frustum) {
+		if (!hasSubtreeBounds || !frustum.intersects(subtreeBounds)) {
+			frustum.culled(subtreeSize);
+			return;
 		}
-		gl.glEnd();
 
-		objects.forEach(o -> o.draw(gl));
+		if (hasBBox() && frustum.intersects(ownBounds)) {
+			gl.glPushMatrix();
+			gl.glMultMatrixd(worldTransform.getDate(), 0);
+			drawVertices(gl, detailLevel(frustum));
+			gl.glPopMatrix();
+			frustum.drawn(1);
+		} else {
+			frustum.culled(1);
+		}
+		for (GraphicObject child : objects) {
+			child.draw(gl, frustum);
+		}
+	}
+
+	/**
+	 * Atualiza os limites no espao do mundo deste objeto e de todos os seus
+	 * filhos. Somente os ramos marcados como sujos so recalculados; os demais
+	 * mantm os limites da ltima atualizao.
+	 * 
+	 * @param parentWorld
+	 *            transformao acumulada dos objetos pais.
+	 */
+	void refreshHierarchy(final Transform parentWorld) {
+		if (!hierarchyDirty) {
+			return;
+		}
+		final Transform world = worldTransform;
+		world.multiply(parentWorld, transform);
+		drawStamp++;
+		subtreeSize = 1;
+		hasSubtreeBounds = false;
+
+		final BBox bounds = getBBox();
+		if (bounds != null) {
+			transformBounds(bounds, world.getDate(), ownBounds);
+			System.arraycopy(ownBounds, 0, subtreeBounds, 0, 4);
+			hasSubtreeBounds = true;
+		}
+
+		for (GraphicObject child : objects) {
+			child.refreshHierarchy(world);
+			subtreeSize += child.subtreeSize;
+			if (!child.hasSubtreeBounds) {
+				continue;
+			}
+			if (hasSubtreeBounds) {
+				subtreeBounds[0] = Math.min(subtreeBounds[0], child.subtreeBounds[0]);
+				subtreeBounds[1] = Math.min(subtreeBounds[1], child.subtreeBounds[1]);
+				subtreeBounds[2] = Math.max(subtreeBounds[2], child.subtreeBounds[2]);
+				subtreeBounds[3] = Math.max(subtreeBounds[3], child.subtreeBounds[3]);
+			} else {
+				System.arraycopy(child.subtreeBounds, 0, subtreeBounds, 0, 4);
+				hasSubtreeBounds = true;
+			}
+		}
+		hierarchyDirty = false;
+	}
+
+	/**
+	 * Atualiza os limites no mundo de toda a rvore a partir do objeto raiz.
+	 */
+	private void refreshFromRoot() {
+		GraphicObject root = this;
+		while (root.parent != null) {
+			root = root.parent;
+		}
+		root.refreshHierarchy(IDENTITY);
+	}
+
+	/**
+	 * Procura, neste objeto e nos filhos, os objetos cujos limites no mundo
+	 * contm um ponto. Os ramos cujos limites no contm o ponto no so
+	 * percorridos. Os objetos encontrados so adicionados na ordem em que a
+	 * rvore  percorrida. Os limites devem ter sido atualizados antes com
+	 * {@link #refreshHierarchy(Transform)}.
+	 * 
+	 * @param x
+	 *            coordenada X no mundo.
+	 * @param y
+	 *            coordenada Y no mundo.
+	 * @param result
+	 *            recebe os objetos cujos limites contm o ponto.
+	 */
+	void collectCandidatesAt(final int x, final int y, final List<GraphicObject> result) {
+		if (!hasSubtreeBounds || !boundsContains(subtreeBounds, x, y)) {
+			return;
+		}
+		if (hasBBox() && boundsContains(ownBounds, x, y)) {
+			result.add(this);
+		}
+		for (GraphicObject child : objects) {
+			child.collectCandidatesAt(x, y, result);
+		}
+	}
 
+	/**
+	 * Procura, neste objeto e nos filhos, os objetos cujos limites no mundo
+	 * intersectam um retngulo. Os ramos cujos limites no intersectam o
+	 * retngulo no so percorridos. Os limites devem ter sido atualizados
+	 * antes com {@link #refreshHierarchy(Transform)}.
+	 * 
+	 * @param bounds
+	 *            retngulo no mundo, no formato { minX, minY, maxX, maxY }.
+	 * @param result
+	 *            recebe os objetos encontrados, na ordem da rvore.
+	 */
+	void collectIntersecting(final int[] bounds, final List<GraphicObject> result) {
+		if (!hasSubtreeBounds || !boundsIntersect(subtreeBounds, bounds)) {
+			return;
+		}
+		if (hasBBox() && boundsIntersect(ownBounds, bounds)) {
+			result.add(this);
+		}
+		for (GraphicObject child : objects) {
+			child.collectIntersecting(bounds, result);
+		}
+	}
+
+	private static boolean boundsIntersect(final int[] a, final int[] b) {
+		return a[0] <= b[2] && a[2] >= b[0] && a[1] <= b[3] && a[3] >= b[1];
+	}
+
+	/**
+	 * Aplica uma transformao do espao do mundo a este objeto, mantendo os
+	 * limites dos pais. Diferente de {@link #translate(int, int)}, no avisa o
+	 * mundo: quem chama atualiza o ndice uma vez para todos os objetos.
+	 * Vlido somente depois de {@link #refreshHierarchy(Transform)}.
+	 * 
+	 * @param worldChange
+	 *            transformao no espao do mundo.
+	 * @param local
+	 *            auxiliar que recebe a transformao no espao do pai.
+	 * @param parentWorld
+	 *            auxiliar que recebe a transformao acumulada do pai.
+	 */
+	void applyWorldTransform(final Affine2D worldChange, final Affine2D local, final Affine2D parentWorld) {
+		if (parent == null) {
+			worldChange.preConcatenateTo(transform);
+		} else {
+			/* No espao do pai: P^-1 * G * P */
+			parentWorld.set(parent.worldTransform);
+			local.set(parent.worldTransform);
+			local.invert();
+			local.multiply(local, worldChange);
+			local.multiply(local, parentWorld);
+			local.preConcatenateTo(transform);
+			parent.invalidateHierarchy();
+		}
+		invalidateSubtree();
+	}
+
+	/**
+	 * Converte um ponto do mundo para o espao local deste objeto, incluindo
+	 * as transformaes dos pais. Vlido somente depois de
+	 * {@link #refreshHierarchy(Transform)}.
+	 */
+	void worldToLocal(final int x, final int y, final int[] out) {
+		worldTransform.inverseTransformPoint(x, y, out);
+	}
+
+	private static boolean boundsContains(final int[] bounds, final int x, final int y) {
+		return x >= bounds[0] && x <= bounds[2] && y >= bounds[1] && y <= bounds[3];
+	}
+
+	/**
+	 * Adiciona este objeto e os filhos visveis aos grupos de um
+	 * {@link BatchRenderer}, descartando os que esto fora da janela da
+	 * cmera. Os limites devem ter sido atualizados antes com
+	 * {@link #refreshHierarchy(Transform)}.
+	 * 
+	 * @param renderer
+	 *            desenho que recebe os vrtices.
+	 * @param frustum
+	 *            janela visvel da cmera.
+	 */
+	void collectBatches(final BatchRenderer renderer, final ViewFrustum frustum) {
+		if (!hasSubtreeBounds || !frustum.intersects(subtreeBounds)) {
+			frustum.culled(subtreeSize);
+			return;
+		}
+
+		if (hasBBox() && frustum.intersects(ownBounds)) {
+			final BatchRenderer.Batch batch = renderer.batchFor(primitive, lineWidth);
+			if (batch != null) {
+				final int level = detailLevel(frustum);
+				final VertexArray drawn = levelOfDetail.vertices(vertices, primitive, level);
+				batch.append(this, drawStamp, level, drawn, worldTransform.getDate(), color, primitive);
+			} else {
+				renderer.addUnbatched(this);
+			}
+			frustum.drawn(1);
+		} else {
+			frustum.culled(1);
+		}
+		for (GraphicObject child : objects) {
+			child.collectBatches(renderer, frustum);
+		}
+	}
+
+	/**
+	 * Desenha somente este objeto, sem os filhos, com a transformao
+	 * acumulada dos pais.
+	 */
+	void drawAlone(final GL gl) {
+		gl.glPushMatrix();
+		gl.glMultMatrixd(worldTransform.getDate(), 0);
+		drawVertices(gl, -1);
 		gl.glPopMatrix();
 	}
 
+	/**
+	 * Nvel de detalhe para a escala atual da cmera, considerando a escala
+	 * da transformao acumulada deste objeto. Vlido somente depois de
+	 * {@link #refreshHierarchy(Transform)}.
+	 * 
+	 * @return nvel de {@link LevelOfDetail}, ou <code>-1</code> para todos
+	 *         os vrtices.
+	 */
+	private int detailLevel(final ViewFrustum frustum) {
+		final double unitsPerPixel = frustum.getUnitsPerPixel();
+		if (unitsPerPixel <= 0) {
+			return -1;
+		}
+		final double[] m = worldTransform.getDate();
+		final double scale = Math.sqrt(Math.abs(m[0] * m[5] - m[1] * m[4]));
+		return scale > 0 ? LevelOfDetail.levelFor(unitsPerPixel / scale) : -1;
+	}
+
+	/**
+	 * Desenha os vrtices de um nvel de detalhe com vrtices imediatos.
+	 * 
+	 * @param level
+	 *            nvel de {@link LevelOfDetail}, ou <code>-1</code> para
+	 *            todos os vrtices.
+	 */
+	private void drawVertices(final GL gl, final int level) {
+		gl.glLineWidth(lineWidth);
+		gl.glPointSize(lineWidth);
+
+		final VertexArray drawn = levelOfDetail.vertices(vertices, primitive, level);
+		Metrics.getDefault().drawCall(drawn.size());
+		gl.glBegin(primitive);
+		for (int i = 0; i < drawn.size(); i++) {
+			gl.glColor3f(color[0], color[1], color[2]);
+			gl.glVertex2d(drawn.getX(i), drawn.getY(i));
+		}
+		gl.glEnd();
+	}
+
 	/**
 	 * Verifica se um ponto est contido dentro deste objeto grfico.
 	 * 
@@ -119,52 +588,232 @@ public class GraphicObject implements Drawable {
 	 *         <code>false</code> de outra maneira.
 	 */
 	public boolean contains(final Point4D point) {
-		if (bbox == null) {
+		return contains(point.getX(), point.getY());
+	}
+
+	/**
+	 * Verifica se um ponto, no espao local deste objeto, est contido dentro
+	 * dele.
+	 * 
+	 * @param x
+	 *            coordenada X do ponto.
+	 * @param y
+	 *            coordenada Y do ponto.
+	 * @return <code>true</code> se o ponto est contido dentro deste objeto,
+	 *         <code>false</code> de outra maneira.
+	 */
+	public boolean contains(final int x, final int y) {
+		final BBox bounds = getBBox();
+		if (bounds == null) {
 			return false;
 		}
-		if (!bbox.contains(point)) {
+		if (!bounds.contains(x, y)) {
 			return false;
 		}
-		
-		int intersects = 0;
-		final int size = vertices.size();
-		for (int i = 0; i < size; i++) {
-			int endIndex = i < size - 1 ? i + 1 : 0;
-			Vertex initialVertex = vertices.get(i);
-			Vertex endVertex = vertices.get(endIndex);
-			if (intersectsYLeft(point, initialVertex.getPoint(), endVertex.getPoint())) {
-				intersects++;
-			}
+		if (edgeTable.isDirty()) {
+			edgeTable.build(vertices);
 		}
-		return (intersects % 2 != 0);
+		return edgeTable.contains(x, y, fillRule);
+	}
+
+	/**
+	 * Prepara os caches usados por {@link #contains(int, int)}, para que ele
+	 * possa ser chamado por vrias threads ao mesmo tempo.
+	 */
+	void prepareHitTest() {
+		getBBox();
+		if (edgeTable.isDirty()) {
+			edgeTable.build(vertices);
+		}
+	}
+
+	public int getPrimitive() {
+		return primitive;
+	}
+
+	/**
+	 * Altera a primitiva usada para desenhar os vrtices.
+	 * 
+	 * @param primitive
+	 *            primitiva do OpenGL, por exemplo {@link GL#GL_LINE_STRIP},
+	 *            {@link GL#GL_LINE_LOOP} ou {@link GL#GL_POINTS}.
+	 */
+	public void setPrimitive(final int primitive) {
+		this.primitive = primitive;
+		levelOfDetail.invalidate();
+		drawStamp++;
+	}
+
+	public float getLineWidth() {
+		return lineWidth;
+	}
+
+	/**
+	 * Altera a espessura das linhas e o tamanho dos pontos, em pixels.
+	 * 
+	 * @param lineWidth
+	 *            nova espessura, o padro  3.
+	 */
+	public void setLineWidth(final float lineWidth) {
+		this.lineWidth = lineWidth;
+		drawStamp++;
 	}
-	
-	private boolean intersectsYLeft(Point4D pointToCheck, Point4D p1, Point4D p2) {
-		double t = (double)(p1.getY() - pointToCheck.getY()) / (double)(p2.getY() - p1.getY());
-		t *= -1;
-		double expectedXPos = getXCalculed(t, p1.getX(), p2.getX());
-		return t >= 0 && t <= 1 && expectedXPos >= pointToCheck.getX();
+
+	public FillRule getFillRule() {
+		return fillRule;
 	}
-	
-	private double getXCalculed(double t, int x1, int x2) {
-		return x1 + ((x2 - x1) * t);
+
+	/**
+	 * Altera a regra usada para decidir se um ponto est dentro deste objeto.
+	 * 
+	 * @param fillRule
+	 *            nova regra, o padro  {@link FillRule#EVEN_ODD}.
+	 */
+	public void setFillRule(final FillRule fillRule) {
+		this.fillRule = fillRule;
 	}
 
+	/**
+	 * Converte um ponto do mundo para o espao local deste objeto, incluindo
+	 * as transformaes dos pais, sem alocar objetos.
+	 * 
+	 * @param x
+	 *            coordenada X no mundo.
+	 * @param y
+	 *            coordenada Y no mundo.
+	 * @param out
+	 *            recebe X e Y locais nas posies 0 e 1.
+	 */
+	public void toLocal(final int x, final int y, final int[] out) {
+		refreshFromRoot();
+		worldTransform.inverseTransformPoint(x, y, out);
+	}
+
+	/**
+	 * Obtm a transformao acumulada deste objeto com todos os pais, que
+	 * leva o espao local para o espao do mundo. A matriz fica guardada e s
+	 *  recalculada depois que este objeto ou algum pai  transformado.
+	 * 
+	 * @return transformao acumulada; a mesma instncia  atualizada a cada
+	 *         mudana e no deve ser alterada.
+	 */
+	public Transform getWorldTransform() {
+		refreshFromRoot();
+		return worldTransform;
+	}
+
+	/**
+	 * @return vrtice no espao local, cuja rea de seleo  desenhada com a
+	 *         transformao acumulada dos pais.
+	 */
 	public Vertex getVertex(final int index) {
-		return vertices.get(index);
+		return new Vertex(new Point4D(vertices.getX(index), vertices.getY(index)), worldTransform);
 	}
 
 	public Vertex getVertexAtPos(final Point4D point) {
-		return vertices.stream().filter(vertex -> vertex.contains(point)).findFirst().orElse(null);
+		final int index = getVertexIndexAtPos(point);
+		return index == -1 ? null : getVertex(index);
 	}
 
 	public int getVertexIndexAtPos(final Point4D point) {
-		for (int i = 0; i < vertices.size(); i++) {
-			if (vertices.get(i).contains(point)) {
-				return i;
-			}
+		return getVertexIndexAtPos(point.getX(), point.getY());
+	}
+
+	/**
+	 * Procura o vrtice cuja rea de seleo contm um ponto. Se as reas de
+	 * vrios vrtices contm o ponto, retorna o de menor ndice.
+	 * 
+	 * @param x
+	 *            coordenada X no espao local.
+	 * @param y
+	 *            coordenada Y no espao local.
+	 * @return ndice do vrtice, ou <code>-1</code> se nenhum contm o ponto.
+	 */
+	public int getVertexIndexAtPos(final int x, final int y) {
+		return indexedVertices().find(vertices, x, y, Vertex.VERTEX_BBOX_SIZE);
+	}
+
+	/**
+	 * Procura os vrtices mais prximos de um ponto.
+	 * 
+	 * @param x
+	 *            coordenada X no espao local.
+	 * @param y
+	 *            coordenada Y no espao local.
+	 * @param result
+	 *            recebe os ndices dos vrtices, do mais prximo ao mais
+	 *            distante; o tamanho do vetor  a quantidade procurada.
+	 * @return quantidade de vrtices encontrados, menor que o tamanho do
+	 *         vetor somente se o objeto tem menos vrtices.
+	 */
+	public int findNearestVertices(final int x, final int y, final int[] result) {
+		return indexedVertices().nearest(vertices, x, y, Integer.MAX_VALUE, -1, result);
+	}
+
+	/**
+	 * Procura o vrtice mais prximo de um ponto dentro de uma distncia, por
+	 * exemplo para atrair o mouse a um vrtice.
+	 * 
+	 * @param x
+	 *            coordenada X no espao local.
+	 * @param y
+	 *            coordenada Y no espao local.
+	 * @param maxDistance
+	 *            distncia mxima at o ponto.
+	 * @param ignoredIndex
+	 *            vrtice ignorado, por exemplo o que est sendo movido, ou
+	 *            <code>-1</code>.
+	 * @return ndice do vrtice, ou <code>-1</code> se nenhum est perto.
+	 */
+	public int findNearestVertex(final int x, final int y, final int maxDistance, final int ignoredIndex) {
+		final int[] nearest = nearestVertex;
+		return indexedVertices().nearest(vertices, x, y, maxDistance, ignoredIndex, nearest) == 0 ? -1 : nearest[0];
+	}
+
+	private VertexIndex indexedVertices() {
+		if (vertexIndex.isDirty()) {
+			vertexIndex.build(vertices);
 		}
-		return -1;
+		return vertexIndex;
+	}
+
+	/**
+	 * Usa os vrtices de um buffer, que s  lido quando algum vrtice for
+	 * acessado. Os limites so informados para que o objeto possa ser
+	 * indexado, descartado e desenhado pela {@link BBox} sem ler os vrtices.
+	 * 
+	 * @param source
+	 *            coordenadas X e Y intercaladas.
+	 * @param count
+	 *            quantidade de vrtices.
+	 * @param bounds
+	 *            limites dos vrtices no formato { minX, minY, maxX, maxY }.
+	 */
+	void mapVertices(final IntBuffer source, final int count, final int[] bounds) {
+		vertices.setSource(source, count);
+		vertexIndex.invalidate();
+		minX = bounds[0];
+		minY = bounds[1];
+		maxX = bounds[2];
+		maxY = bounds[3];
+		boundsStale = false;
+		bboxDirty = true;
+		drawStamp++;
+		edgeTable.invalidate();
+		levelOfDetail.invalidate();
+		changed();
+	}
+
+	/**
+	 * Vrtices deste objeto, para quem precisa percorr-los sem criar
+	 * {@link Vertex}.
+	 */
+	VertexArray vertexArray() {
+		return vertices;
+	}
+
+	public int getVertexCount() {
+		return vertices.size();
 	}
 
 	public int getLastVertexIndex() {
@@ -172,80 +821,194 @@ public class GraphicObject implements Drawable {
 	}
 
 	public Vertex getLastVertex() {
-		return vertices.isEmpty() ? null : vertices.getLast();
+		return vertices.isEmpty() ? null : getVertex(getLastVertexIndex());
 	}
 
 	public void translate(int x, int y) {
-		Transform translateTransform = new Transform();
-		translateTransform.translate(x, y, 0);
-		transform = translateTransform.transformMatrix(transform);
-		bbox.setTransform(transform);
-		vertices.stream().forEach(vertex -> vertex.bbox().setTransform(transform));
+		transform.preTranslate(x, y);
+		transformChanged();
 	}
 
 	public void rotateZ(double radians) {
-		Transform tmpTransform = new Transform();
-		Point4D middlePoint = bbox.getMiddlePoint();
-		middlePoint = middlePoint.getInvertedPoint();
+		final Point4D middlePoint = getBBox().getMiddlePoint();
+		final Affine2D rotation = new Affine2D();
+		rotation.setRotation(radians, middlePoint.getX(), middlePoint.getY());
+		rotation.concatenateTo(transform);
+		transformChanged();
+	}
 
-		Transform translateTransform = new Transform();
-		translateTransform.translate(middlePoint.getX(), middlePoint.getY(), middlePoint.getZ());
-		tmpTransform = translateTransform.transformMatrix(tmpTransform);
+	public void scaleXY(double scale) {
+		final Point4D middlePoint = getBBox().getMiddlePoint();
+		final Affine2D scaleTransform = new Affine2D();
+		scaleTransform.setScale(scale, middlePoint.getX(), middlePoint.getY());
+		scaleTransform.concatenateTo(transform);
+		transformChanged();
+	}
+
+	/**
+	 * Obtm a {@link BBox} deste objeto j transformada para o espao do
+	 * mundo, ou seja, o menor retngulo alinhado aos eixos que contm a
+	 * {@link BBox} local depois de aplicadas as {@link Transform} do objeto e
+	 * de todos os seus pais.
+	 * 
+	 * @return {@link BBox} no espao do mundo, ou <code>null</code> se o
+	 *         objeto no possui vrtices.
+	 */
+	public BBox getWorldBBox() {
+		if (!hasBBox()) {
+			return null;
+		}
+		refreshFromRoot();
+		return new BBox(ownBounds[0], ownBounds[1], ownBounds[2], ownBounds[3]);
+	}
+
+	/**
+	 * Obtm o menor retngulo no espao do mundo que contm este objeto e
+	 * todos os seus filhos.
+	 * 
+	 * @return {@link BBox} no espao do mundo, ou <code>null</code> se nem o
+	 *         objeto nem os filhos possuem vrtices.
+	 */
+	public BBox getSubtreeBBox() {
+		refreshFromRoot();
+		if (!hasSubtreeBounds) {
+			return null;
+		}
+		return new BBox(subtreeBounds[0], subtreeBounds[1], subtreeBounds[2], subtreeBounds[3]);
+	}
 
-		Transform rotateTransform = new Transform();
-		rotateTransform.rotateZ(radians);
-		tmpTransform = rotateTransform.transformMatrix(tmpTransform);
+	/**
+	 * Limites no mundo deste objeto e de todos os filhos, no formato { minX,
+	 * minY, maxX, maxY }. Vlido somente depois de
+	 * {@link #refreshHierarchy(Transform)} e se
+	 * {@link #hasSubtreeBounds()}.
+	 */
+	int[] subtreeBounds() {
+		return subtreeBounds;
+	}
 
-		middlePoint = middlePoint.getInvertedPoint();
+	int getRootOrder() {
+		return rootOrder;
+	}
 
-		Transform translateInvertedTransform = new Transform();
-		translateInvertedTransform.translate(middlePoint.getX(), middlePoint.getY(), middlePoint.getZ());
-		tmpTransform = translateInvertedTransform.transformMatrix(tmpTransform);
+	void setRootOrder(final int rootOrder) {
+		this.rootOrder = rootOrder;
+	}
 
-		transform = transform.transformMatrix(tmpTransform);
-		bbox.setTransform(transform);
-		vertices.stream().forEach(vertex -> vertex.bbox().setTransform(transform));
+	boolean hasSubtreeBounds() {
+		return hasSubtreeBounds;
 	}
 
-	public void scaleXY(double scale) {
-		Transform tmpTransform = new Transform();
-		Point4D middlePoint = bbox.getMiddlePoint();
-		middlePoint = middlePoint.getInvertedPoint();
+	/**
+	 * Calcula o retngulo alinhado aos eixos que contm uma {@link BBox}
+	 * depois de transformada por uma matriz.
+	 * 
+	 * @param bounds
+	 *            {@link BBox} a ser transformada.
+	 * @param m
+	 *            matriz de transformao.
+	 * @param result
+	 *            recebe o retngulo no formato { minX, minY, maxX, maxY }.
+	 */
+	private static void transformBounds(final BBox bounds, final double[] m, final int[] result) {
+		/*
+		 * Para uma transformao afim basta somar, por eixo, a menor e a maior
+		 * contribuio de X e de Y  translao.
+		 */
+		final double ax = m[0] * bounds.getMinX();
+		final double bx = m[0] * bounds.getMaxX();
+		final double cx = m[4] * bounds.getMinY();
+		final double dx = m[4] * bounds.getMaxY();
+		final double ay = m[1] * bounds.getMinX();
+		final double by = m[1] * bounds.getMaxX();
+		final double cy = m[5] * bounds.getMinY();
+		final double dy = m[5] * bounds.getMaxY();
+		result[0] = (int) Math.floor(Math.min(ax, bx) + Math.min(cx, dx) + m[12]);
+		result[1] = (int) Math.floor(Math.min(ay, by) + Math.min(cy, dy) + m[13]);
+		result[2] = (int) Math.ceil(Math.max(ax, bx) + Math.max(cx, dx) + m[12]);
+		result[3] = (int) Math.ceil(Math.max(ay, by) + Math.max(cy, dy) + m[13]);
+	}
 
-		Transform translateTransform = new Transform();
-		translateTransform.translate(middlePoint.getX(), middlePoint.getY(), middlePoint.getZ());
-		tmpTransform = translateTransform.transformMatrix(tmpTransform);
+	/**
+	 * Avisa que a geometria deste objeto mudou. Os limites deste objeto e dos
+	 * pais passam a ser recalculados no prximo uso e o mundo atualiza o
+	 * ndice espacial.
+	 */
+	private void changed() {
+		invalidateHierarchy();
+		if (world != null) {
+			world.update(this);
+		}
+	}
 
-		Transform scaleTransform = new Transform();
-		scaleTransform.scale(scale, scale, 1.0);
-		tmpTransform = scaleTransform.transformMatrix(tmpTransform);
+	/**
+	 * Avisa que a transformao deste objeto mudou. Alm dos pais, os limites
+	 * no mundo de todos os filhos tambm mudam.
+	 */
+	private void transformChanged() {
+		invalidateSubtree();
+		if (parent != null) {
+			parent.invalidateHierarchy();
+		}
+		if (world != null) {
+			world.update(this);
+		}
+	}
 
-		middlePoint = middlePoint.getInvertedPoint();
+	/**
+	 * Marca este objeto e os seus pais como sujos. A subida para no primeiro
+	 * pai j sujo, pois os pais dele tambm esto.
+	 */
+	private void invalidateHierarchy() {
+		for (GraphicObject node = this; node != null && !node.hierarchyDirty; node = node.parent) {
+			node.hierarchyDirty = true;
+		}
+	}
 
-		Transform translateInvertedTransform = new Transform();
-		translateInvertedTransform.translate(middlePoint.getX(), middlePoint.getY(), middlePoint.getZ());
-		tmpTransform = translateInvertedTransform.transformMatrix(tmpTransform);
+	private void invalidateSubtree() {
+		hierarchyDirty = true;
+		for (GraphicObject child : objects) {
+			child.invalidateSubtree();
+		}
+	}
 
-		transform = transform.transformMatrix(tmpTransform);
-		bbox.setTransform(transform);
-		vertices.stream().forEach(vertex -> vertex.bbox().setTransform(transform));
+	/**
+	 * Amplia os limites para incluir um ponto, sem percorrer os vrtices.
+	 */
+	private void extendBBox(final int x, final int y) {
+		if (boundsStale) {
+			return;
+		}
+		if (x < minX) {
+			minX = x;
+		} else if (x > maxX) {
+			maxX = x;
+		}
+		if (y < minY) {
+			minY = y;
+		} else if (y > maxY) {
+			maxY = y;
+		}
 	}
 
+	/**
+	 * Recalcula os limites percorrendo todos os vrtices.
+	 */
 	private void adjustBBox() {
+		boundsStale = false;
+		bboxDirty = true;
 		if (vertices.isEmpty()) {
 			return;
 		}
 
-		final Vertex first = vertices.getFirst();
-		int minX = first.getX();
+		int minX = vertices.getX(0);
 		int maxX = minX;
-		int minY = first.getY();
+		int minY = vertices.getY(0);
 		int maxY = minY;
 
 		for (int i = 1; i < vertices.size(); i++) {
-			final Vertex vertex = vertices.get(i);
-			final int x = vertex.getX();
-			final int y = vertex.getY();
+			final int x = vertices.getX(i);
+			final int y = vertices.getY(i);
 			if (x < minX) {
 				minX = x;
 			} else if (x > maxX) {
@@ -259,7 +1022,10 @@ public class GraphicObject implements Drawable {
 			}
 		}
 
-		bbox = new BBox(minX, minY, 0, maxX, maxY, 0, transform);
+		this.minX = minX;
+		this.minY = minY;
+		this.maxX = maxX;
+		this.maxY = maxY;
 	}
 
 }
@@ -0,0 +1,157 @@
+package main;
+
+import java.util.Arrays;
+
+import javax.media.opengl.GL;
+
+/**
+ * Verses simplificadas dos vrtices de um objeto, desenhadas no lugar dos
+ * vrtices originais quando a cmera est afastada e vrios vrtices caem no
+ * mesmo pixel.
+ * <p>
+ * O nvel <code>k</code>  calculado a partir do nvel <code>k - 1</code>, ou
+ * dos vrtices originais no nvel 0, pelo algoritmo de Douglas-Peucker com
+ * tolerncia de <code>2^k</code> unidades do espao local. Como cada nvel
+ * parte do anterior, a distncia acumulada at os vrtices originais  menor
+ * que <code>2^(k + 1)</code>. Os nveis s so calculados quando pedidos e so
+ * descartados quando os vrtices mudam.
+ * <p>
+ * Somente <code>GL_LINE_STRIP</code> e <code>GL_LINE_LOOP</code> so
+ * simplificados; nas demais primitivas remover um vrtice muda o desenho.
+ */
+public class LevelOfDetail {
+
+	/** Quantidade de nveis; o ltimo tem tolerncia de 2048 unidades. */
+	public static final int LEVEL_COUNT = 12;
+	/** Objetos com menos vrtices so sempre desenhados completos. */
+	private static final int MIN_VERTICES = 16;
+
+	private final VertexArray[] levels = new VertexArray[LEVEL_COUNT];
+	private final boolean[] built = new boolean[LEVEL_COUNT];
+	/* Reaproveitados entre as simplificaes */
+	private boolean[] keep = new boolean[0];
+	private int[] pending = new int[0];
+
+	/**
+	 * Descarta os nveis calculados, que so refeitos no prximo uso.
+	 */
+	public void invalidate() {
+		Arrays.fill(built, false);
+	}
+
+	/**
+	 * Escolhe o nvel cujo desvio fica abaixo de um pixel.
+	 *
+	 * @param unitsPerPixel
+	 *            unidades do espao local do objeto por pixel da tela.
+	 * @return nvel a ser desenhado, ou <code>-1</code> para desenhar os
+	 *         vrtices originais.
+	 */
+	public static int levelFor(final double unitsPerPixel) {
+		if (!(unitsPerPixel >= 2)) {
+			return -1;
+		}
+		/* Maior k com 2^(k + 1) <= unitsPerPixel */
+		final int log2 = 63 - Long.numberOfLeadingZeros((long) unitsPerPixel);
+		return Math.min(log2 - 1, LEVEL_COUNT - 1);
+	}
+
+	/**
+	 * Obtm os vrtices de um nvel, calculando-o se preciso.
+	 *
+	 * @param vertices
+	 *            vrtices originais do objeto.
+	 * @param primitive
+	 *            primitiva usada no desenho.
+	 * @param level
+	 *            nvel desejado, como retornado por {@link #levelFor(double)}.
+	 * @return vrtices simplificados, ou os prprios vrtices originais se o
+	 *         objeto no deve ser simplificado.
+	 */
+	public VertexArray vertices(final VertexArray vertices, final int primitive, final int level) {
+		if (level < 0 || vertices.size() < MIN_VERTICES
+				|| (primitive != GL.GL_LINE_STRIP && primitive != GL.GL_LINE_LOOP)) {
+			return vertices;
+		}
+		for (int k = 0; k <= level; k++) {
+			if (built[k]) {
+				continue;
+			}
+			if (levels[k] == null) {
+				levels[k] = new VertexArray();
+			}
+			simplify(k == 0 ? vertices : levels[k - 1], primitive == GL.GL_LINE_LOOP, 1L << k, levels[k]);
+			built[k] = true;
+		}
+		return levels[level];
+	}
+
+	/**
+	 * Douglas-Peucker sem recurso. Em um polgono fechado o primeiro vrtice
+	 *  repetido no final, para que a aresta de fechamento tambm seja
+	 * simplificada.
+	 */
+	private void simplify(final VertexArray source, final boolean closed, final long tolerance,
+			final VertexArray result) {
+		final int size = source.size();
+		final int count = closed ? size + 1 : size;
+		if (keep.length < count) {
+			keep = new boolean[count];
+			pending = new int[2 * count];
+		}
+		Arrays.fill(keep, 0, count, false);
+		keep[0] = true;
+		keep[count - 1] = true;
+		final double limit = (double) tolerance * tolerance;
+
+		int top = 0;
+		pending[top++] = 0;
+		pending[top++] = count - 1;
+		while (top > 0) {
+			final int last = pending[--top];
+			final int first = pending[--top];
+			final int ax = source.getX(first);
+			final int ay = source.getY(first);
+			final int bx = source.getX(last % size);
+			final int by = source.getY(last % size);
+			double farthest = limit;
+			int index = -1;
+			for (int i = first + 1; i < last; i++) {
+				final double distance = segmentDistanceSquared(source.getX(i), source.getY(i), ax, ay, bx, by);
+				if (distance > farthest) {
+					farthest = distance;
+					index = i;
+				}
+			}
+			if (index >= 0) {
+				keep[index] = true;
+				pending[top++] = first;
+				pending[top++] = index;
+				pending[top++] = index;
+				pending[top++] = last;
+			}
+		}
+
+		result.clear();
+		final int end = closed ? size : count;
+		for (int i = 0; i < end; i++) {
+			if (keep[i]) {
+				result.add(source.getX(i), source.getY(i));
+			}
+		}
+	}
+
+	private static double segmentDistanceSquared(final int px, final int py, final int ax, final int ay,
+			final int bx, final int by) {
+		final double dx = (double) bx - ax;
+		final double dy = (double) by - ay;
+		final double length = dx * dx + dy * dy;
+		double t = 0;
+		if (length > 0) {
+			t = Math.max(0, Math.min(1, (((double) px - ax) * dx + ((double) py - ay) * dy) / length));
+		}
+		final double ex = ax + t * dx - px;
+		final double ey = ay + t * dy - py;
+		return ex * ex + ey * ey;
+	}
+}
@@ -0,0 +1,350 @@
+package main;
+
+import java.awt.EventQueue;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Mtricas de desenho e de seleo, para encontrar a causa de quadros lentos
+ * sem um profiler.
+ * <p>
+ * O desenho informa o incio e o fim de cada quadro e, entre eles, as
+ * chamadas de desenho, os vrtices enviados e os objetos desenhados e
+ * descartados. No fim do quadro esses contadores so publicados como os
+ * valores do ltimo quadro e a durao entra no histograma. A seleo de
+ * objetos informa a durao de cada busca.
+ * <p>
+ * Os contadores so alterados somente pela thread de eventos do AWT, que
+ * desenha e trata o mouse; os valores publicados podem ser lidos de qualquer
+ * thread, por exemplo pelo JMX.
+ */
+public class Metrics implements MetricsMXBean {
+
+	/** Nome usado no registro do JMX. */
+	public static final String OBJECT_NAME = "cg-n3:type=Metrics";
+
+	/** Limites das faixas do histograma, em milissegundos. */
+	private static final double[] FRAME_BUCKETS = { 1, 2, 4, 8, 16, 33, 66, 133 };
+	private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+	private static final Metrics DEFAULT = new Metrics();
+
+	private final com.sun.management.ThreadMXBean allocations = allocationBean();
+	private final AtomicLongArray frameHistogram = new AtomicLongArray(FRAME_BUCKETS.length + 1);
+
+	/* Quadro em andamento */
+	private final Counts frame = new Counts();
+	private long frameStart;
+	private long frameAllocationStart;
+
+	/* ltimo quadro completo */
+	private volatile long lastFrameNanos;
+	private volatile int drawCalls;
+	private volatile long verticesSubmitted;
+	private volatile int objectsDrawn;
+	private volatile int objectsCulled;
+	private volatile long allocatedBytes = -1;
+
+	/* Acumulados */
+	private volatile long frameCount;
+	private volatile long totalFrameNanos;
+	private volatile long maxFrameNanos;
+	private volatile long pickCount;
+	private volatile long lastPickNanos;
+	private volatile long totalPickNanos;
+	private volatile long maxPickNanos;
+
+	/**
+	 * @return mtricas usadas pelo desenho e pela seleo do programa.
+	 */
+	public static Metrics getDefault() {
+		return DEFAULT;
+	}
+
+	/**
+	 * Registra as mtricas padro no servidor de MBeans da plataforma, com o
+	 * nome {@value #OBJECT_NAME}. Chamadas repetidas no tm efeito.
+	 */
+	public static synchronized void register() {
+		try {
+			final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			final ObjectName name = new ObjectName(OBJECT_NAME);
+			if (!server.isRegistered(name)) {
+				server.registerMBean(DEFAULT, name);
+			}
+		} catch (JMException e) {
+			throw new IllegalStateException("No foi possvel registrar as mtricas", e);
+		}
+	}
+
+	/**
+	 * Inicia um quadro, zerando os contadores do quadro anterior.
+	 */
+	public void beginFrame() {
+		frame.clear();
+		frameAllocationStart = allocatedBytes();
+		frameStart = System.nanoTime();
+	}
+
+	/**
+	 * Termina o quadro iniciado em {@link #beginFrame()} e publica os seus
+	 * valores.
+	 */
+	public void endFrame() {
+		final long nanos = System.nanoTime() - frameStart;
+		final long allocated = allocatedBytes();
+
+		lastFrameNanos = nanos;
+		drawCalls = frame.drawCalls;
+		verticesSubmitted = frame.vertices;
+		objectsDrawn = frame.drawn;
+		objectsCulled = frame.culled;
+		allocatedBytes = allocated < 0 || frameAllocationStart < 0 ? -1 : allocated - frameAllocationStart;
+
+		frameCount++;
+		totalFrameNanos += nanos;
+		if (nanos > maxFrameNanos) {
+			maxFrameNanos = nanos;
+		}
+		frameHistogram.incrementAndGet(bucketOf(nanos / NANOS_PER_MILLI));
+	}
+
+	/**
+	 * Conta uma chamada de desenho.
+	 *
+	 * @param vertices
+	 *            vrtices enviados na chamada.
+	 */
+	public void drawCall(final int vertices) {
+		frame.drawCalls++;
+		frame.vertices += vertices;
+	}
+
+	/**
+	 * Conta os objetos desenhados e descartados de um percurso da cena.
+	 */
+	public void objects(final int drawn, final int culled) {
+		frame.drawn += drawn;
+		frame.culled += culled;
+	}
+
+	/**
+	 * Conta uma seleo de objeto.
+	 *
+	 * @param nanos
+	 *            durao da busca.
+	 */
+	public void pick(final long nanos) {
+		lastPickNanos = nanos;
+		pickCount++;
+		totalPickNanos += nanos;
+		if (nanos > maxPickNanos) {
+			maxPickNanos = nanos;
+		}
+	}
+
+	/**
+	 * Copia os contadores acumulados at agora no quadro em andamento.
+	 *
+	 * @param out
+	 *            recebe os contadores.
+	 */
+	public void readCounts(final Counts out) {
+		out.set(frame);
+	}
+
+	/**
+	 * Soma contadores ao quadro em andamento, por exemplo os de um desenho
+	 * gravado em uma display list que  apenas executada neste quadro.
+	 *
+	 * @param counts
+	 *            contadores a serem somados.
+	 */
+	public void addCounts(final Counts counts) {
+		frame.drawCalls += counts.drawCalls;
+		frame.vertices += counts.vertices;
+		frame.drawn += counts.drawn;
+		frame.culled += counts.culled;
+	}
+
+	@Override
+	public long getFrameCount() {
+		return frameCount;
+	}
+
+	@Override
+	public double getLastFrameMillis() {
+		return lastFrameNanos / NANOS_PER_MILLI;
+	}
+
+	@Override
+	public double getAverageFrameMillis() {
+		final long count = frameCount;
+		return count == 0 ? 0 : totalFrameNanos / NANOS_PER_MILLI / count;
+	}
+
+	@Override
+	public double getMaxFrameMillis() {
+		return maxFrameNanos / NANOS_PER_MILLI;
+	}
+
+	@Override
+	public double[] getFrameTimeBucketsMillis() {
+		return FRAME_BUCKETS.clone();
+	}
+
+	@Override
+	public long[] getFrameTimeHistogram() {
+		final long[] histogram = new long[frameHistogram.length()];
+		for (int i = 0; i < histogram.length; i++) {
+			histogram[i] = frameHistogram.get(i);
+		}
+		return histogram;
+	}
+
+	@Override
+	public int getDrawCalls() {
+		return drawCalls;
+	}
+
+	@Override
+	public long getVerticesSubmitted() {
+		return verticesSubmitted;
+	}
+
+	@Override
+	public int getObjectsDrawn() {
+		return objectsDrawn;
+	}
+
+	@Override
+	public int getObjectsCulled() {
+		return objectsCulled;
+	}
+
+	@Override
+	public long getAllocatedBytes() {
+		return allocatedBytes;
+	}
+
+	@Override
+	public long getPickCount() {
+		return pickCount;
+	}
+
+	@Override
+	public double getLastPickMillis() {
+		return lastPickNanos / NANOS_PER_MILLI;
+	}
+
+	@Override
+	public double getAveragePickMillis() {
+		final long count = pickCount;
+		return count == 0 ? 0 : totalPickNanos / NANOS_PER_MILLI / count;
+	}
+
+	@Override
+	public double getMaxPickMillis() {
+		return maxPickNanos / NANOS_PER_MILLI;
+	}
+
+	/**
+	 * Zera os valores acumulados na thread de eventos do AWT, a nica que os
+	 * altera. Pelo JMX este mtodo  chamado por uma thread do RMI, que
+	 * poderia zerar os valores no meio de {@link #endFrame()} ou de
+	 * {@link #pick(long)} e misturar valores antigos com os zerados.
+	 */
+	@Override
+	public void reset() {
+		if (EventQueue.isDispatchThread()) {
+			resetNow();
+		} else {
+			EventQueue.invokeLater(this::resetNow);
+		}
+	}
+
+	private void resetNow() {
+		frameCount = 0;
+		totalFrameNanos = 0;
+		maxFrameNanos = 0;
+		for (int i = 0; i < frameHistogram.length(); i++) {
+			frameHistogram.set(i, 0);
+		}
+		pickCount = 0;
+		lastPickNanos = 0;
+		totalPickNanos = 0;
+		maxPickNanos = 0;
+	}
+
+	private static int bucketOf(final double millis) {
+		int bucket = 0;
+		while (bucket < FRAME_BUCKETS.length && millis > FRAME_BUCKETS[bucket]) {
+			bucket++;
+		}
+		return bucket;
+	}
+
+	private long allocatedBytes() {
+		return allocations == null ? -1 : allocations.getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+
+	/**
+	 * A medio das alocaes por thread  uma extenso da JVM da Oracle e do
+	 * OpenJDK; nas demais ela fica desligada.
+	 */
+	private static com.sun.management.ThreadMXBean allocationBean() {
+		final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+		if (threads instanceof com.sun.management.ThreadMXBean) {
+			final com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) threads;
+			if (bean.isThreadAllocatedMemorySupported()) {
+				bean.setThreadAllocatedMemoryEnabled(true);
+				return bean;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Contadores de desenho de um quadro ou de um trecho dele.
+	 */
+	public static final class Counts {
+
+		private int drawCalls;
+		private long vertices;
+		private int drawn;
+		private int culled;
+
+		/**
+		 * Subtrai outros contadores destes, para obter o que foi contado
+		 * entre duas leituras.
+		 *
+		 * @param other
+		 *            contadores da leitura anterior.
+		 */
+		public void subtract(final Counts other) {
+			drawCalls -= other.drawCalls;
+			vertices -= other.vertices;
+			drawn -= other.drawn;
+			culled -= other.culled;
+		}
+
+		private void set(final Counts other) {
+			drawCalls = other.drawCalls;
+			vertices = other.vertices;
+			drawn = other.drawn;
+			culled = other.culled;
+		}
+
+		private void clear() {
+			drawCalls = 0;
+			vertices = 0;
+			drawn = 0;
+			culled = 0;
+		}
+	}
+}
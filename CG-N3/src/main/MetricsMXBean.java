@@ -0,0 +1,96 @@
+package main;
+
+/**
+ * Interface JMX das {@link Metrics}, registrada com o nome
+ * {@value Metrics#OBJECT_NAME}.
+ * <p>
+ * Os valores "do ltimo quadro" se referem ao ltimo quadro completo; os
+ * demais so acumulados desde o incio ou desde o ltimo {@link #reset()}.
+ */
+public interface MetricsMXBean {
+
+	/**
+	 * @return quantidade de quadros desenhados.
+	 */
+	long getFrameCount();
+
+	/**
+	 * @return durao do ltimo quadro em milissegundos.
+	 */
+	double getLastFrameMillis();
+
+	/**
+	 * @return durao mdia dos quadros em milissegundos.
+	 */
+	double getAverageFrameMillis();
+
+	/**
+	 * @return durao do quadro mais lento em milissegundos.
+	 */
+	double getMaxFrameMillis();
+
+	/**
+	 * @return limite superior, em milissegundos, de cada faixa do histograma.
+	 *         A ltima faixa do histograma no tem limite.
+	 */
+	double[] getFrameTimeBucketsMillis();
+
+	/**
+	 * @return quantidade de quadros em cada faixa de durao, com uma faixa a
+	 *         mais que {@link #getFrameTimeBucketsMillis()}.
+	 */
+	long[] getFrameTimeHistogram();
+
+	/**
+	 * @return chamadas de desenho do ltimo quadro.
+	 */
+	int getDrawCalls();
+
+	/**
+	 * @return vrtices enviados ao OpenGL no ltimo quadro.
+	 */
+	long getVerticesSubmitted();
+
+	/**
+	 * @return objetos desenhados no ltimo quadro.
+	 */
+	int getObjectsDrawn();
+
+	/**
+	 * @return objetos descartados por estarem fora da cmera no ltimo
+	 *         quadro.
+	 */
+	int getObjectsCulled();
+
+	/**
+	 * @return bytes alocados pela thread de desenho no ltimo quadro, ou
+	 *         <code>-1</code> se a JVM no mede as alocaes.
+	 */
+	long getAllocatedBytes();
+
+	/**
+	 * @return quantidade de selees de objeto pelo mouse.
+	 */
+	long getPickCount();
+
+	/**
+	 * @return durao da ltima seleo em milissegundos.
+	 */
+	double getLastPickMillis();
+
+	/**
+	 * @return durao mdia das selees em milissegundos.
+	 */
+	double getAveragePickMillis();
+
+	/**
+	 * @return durao da seleo mais lenta em milissegundos.
+	 */
+	double getMaxPickMillis();
+
+	/**
+	 * Zera os valores acumulados. Chamado de fora da thread de eventos do
+	 * AWT, retorna antes de os valores serem zerados.
+	 */
+	void reset();
+}
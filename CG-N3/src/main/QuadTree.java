@@ -0,0 +1,291 @@
+package main;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ndice espacial (quadtree) de itens identificados por um retngulo no
+ * espao do mundo.
+ * <p>
+ * Cada item fica no menor n que contm o seu retngulo por inteiro. A raiz
+ * cresce sob demanda quando um item cai fora dela, assim o mundo no precisa
+ * ter um tamanho fixo. O crescimento para quando a raiz cobre todo o
+ * intervalo do <code>int</code>.
+ *
+ * @param <T>
+ *            tipo dos itens indexados.
+ */
+public class QuadTree<T> {
+
+	private static final int INITIAL_HALF_SIZE = 8192;
+	private static final int MAX_ENTRIES = 8;
+	private static final int MIN_NODE_SIZE = 16;
+
+	private final Map<T, Entry<T>> entries = new HashMap<>();
+	private Node<T> root = new Node<>(-INITIAL_HALF_SIZE, -INITIAL_HALF_SIZE, INITIAL_HALF_SIZE, INITIAL_HALF_SIZE);
+
+	/**
+	 * Insere ou atualiza o retngulo de um item.
+	 *
+	 * @param item
+	 *            item a ser indexado.
+	 * @param bbox
+	 *            retngulo do item no espao do mundo.
+	 */
+	public void put(final T item, final BBox bbox) {
+		put(item, bbox.getMinX(), bbox.getMinY(), bbox.getMaxX(), bbox.getMaxY());
+	}
+
+	/**
+	 * Insere ou atualiza o retngulo de um item.
+	 *
+	 * @param item
+	 *            item a ser indexado.
+	 * @param minX
+	 *            menor X do retngulo no espao do mundo.
+	 * @param minY
+	 *            menor Y do retngulo no espao do mundo.
+	 * @param maxX
+	 *            maior X do retngulo no espao do mundo.
+	 * @param maxY
+	 *            maior Y do retngulo no espao do mundo.
+	 */
+	public void put(final T item, final int minX, final int minY, final int maxX, final int maxY) {
+		Entry<T> entry = entries.get(item);
+		if (entry != null) {
+			if (entry.hasBounds(minX, minY, maxX, maxY)) {
+				return;
+			}
+			entry.node.entries.remove(entry);
+		} else {
+			entry = new Entry<>(item);
+			entries.put(item, entry);
+		}
+		entry.minX = minX;
+		entry.minY = minY;
+		entry.maxX = maxX;
+		entry.maxY = maxY;
+
+		while (!root.encloses(entry)) {
+			grow(entry);
+		}
+		root.insert(entry);
+	}
+
+	/**
+	 * Remove um item do ndice.
+	 *
+	 * @param item
+	 *            item a ser removido.
+	 */
+	public void remove(final T item) {
+		final Entry<T> entry = entries.remove(item);
+		if (entry != null) {
+			entry.node.entries.remove(entry);
+		}
+	}
+
+	/**
+	 * Obtm os itens cujo retngulo contm o ponto informado.
+	 *
+	 * @param x
+	 *            coordenada X do ponto.
+	 * @param y
+	 *            coordenada Y do ponto.
+	 * @param result
+	 *            lista que recebe os itens encontrados.
+	 */
+	public void query(final int x, final int y, final List<T> result) {
+		if (root.contains(x, y)) {
+			root.query(x, y, result);
+		}
+	}
+
+	/**
+	 * Obtm os itens cujo retngulo intersecta um retngulo, incluindo os que
+	 * esto totalmente dentro dele.
+	 *
+	 * @param minX
+	 *            menor X do retngulo.
+	 * @param minY
+	 *            menor Y do retngulo.
+	 * @param maxX
+	 *            maior X do retngulo.
+	 * @param maxY
+	 *            maior Y do retngulo.
+	 * @param result
+	 *            lista que recebe os itens encontrados.
+	 */
+	public void query(final int minX, final int minY, final int maxX, final int maxY, final List<T> result) {
+		if (root.intersects(minX, minY, maxX, maxY)) {
+			root.query(minX, minY, maxX, maxY, result);
+		}
+	}
+
+	public int size() {
+		return entries.size();
+	}
+
+	public void clear() {
+		entries.clear();
+		root = new Node<>(-INITIAL_HALF_SIZE, -INITIAL_HALF_SIZE, INITIAL_HALF_SIZE, INITIAL_HALF_SIZE);
+	}
+
+	/**
+	 * Dobra o tamanho da raiz na direo do item, mantendo a raiz antiga como
+	 * um dos quadrantes da nova. Se a raiz dobrada sair do intervalo do
+	 * <code>int</code>, a raiz passa a cobrir todo o intervalo e os itens so
+	 * inseridos de novo.
+	 * 
+	 * @param entry
+	 *            item fora da raiz, ainda no inserido em nenhum n.
+	 */
+	private void grow(final Entry<T> entry) {
+		final Node<T> old = root;
+		final long width = (long) old.maxX - old.minX;
+		final long height = (long) old.maxY - old.minY;
+		final boolean left = entry.minX < old.minX;
+		final boolean down = entry.minY < old.minY;
+
+		final long minX = left ? old.minX - width : old.minX;
+		final long maxX = left ? old.maxX : old.maxX + width;
+		final long minY = down ? old.minY - height : old.minY;
+		final long maxY = down ? old.maxY : old.maxY + height;
+
+		if (minX < Integer.MIN_VALUE || maxX > Integer.MAX_VALUE || minY < Integer.MIN_VALUE
+				|| maxY > Integer.MAX_VALUE) {
+			root = new Node<>(Integer.MIN_VALUE, Integer.MIN_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE);
+			for (Entry<T> other : entries.values()) {
+				if (other != entry) {
+					root.insert(other);
+				}
+			}
+			return;
+		}
+
+		root = new Node<>((int) minX, (int) minY, (int) maxX, (int) maxY);
+		root.split();
+		root.children[(left ? 1 : 0) + (down ? 2 : 0)] = old;
+	}
+
+	private static final class Entry<T> {
+
+		private final T item;
+		private int minX;
+		private int minY;
+		private int maxX;
+		private int maxY;
+		private Node<T> node;
+
+		private Entry(final T item) {
+			this.item = item;
+		}
+
+		private boolean hasBounds(final int minX, final int minY, final int maxX, final int maxY) {
+			return this.minX == minX && this.minY == minY && this.maxX == maxX && this.maxY == maxY;
+		}
+
+		private boolean contains(final int x, final int y) {
+			return x >= minX && x <= maxX && y >= minY && y <= maxY;
+		}
+
+		private boolean intersects(final int minX, final int minY, final int maxX, final int maxY) {
+			return this.minX <= maxX && this.maxX >= minX && this.minY <= maxY && this.maxY >= minY;
+		}
+	}
+
+	private static final class Node<T> {
+
+		private final int minX;
+		private final int minY;
+		private final int maxX;
+		private final int maxY;
+		private final List<Entry<T>> entries = new ArrayList<>(MAX_ENTRIES);
+		private Node<T>[] children;
+
+		private Node(final int minX, final int minY, final int maxX, final int maxY) {
+			this.minX = minX;
+			this.minY = minY;
+			this.maxX = maxX;
+			this.maxY = maxY;
+		}
+
+		private boolean contains(final int x, final int y) {
+			return x >= minX && x <= maxX && y >= minY && y <= maxY;
+		}
+
+		private boolean intersects(final int minX, final int minY, final int maxX, final int maxY) {
+			return this.minX <= maxX && this.maxX >= minX && this.minY <= maxY && this.maxY >= minY;
+		}
+
+		private boolean encloses(final Entry<T> entry) {
+			return entry.minX >= minX && entry.maxX <= maxX && entry.minY >= minY && entry.maxY <= maxY;
+		}
+
+		private void insert(final Entry<T> entry) {
+			if (children != null) {
+				for (Node<T> child : children) {
+					if (child.encloses(entry)) {
+						child.insert(entry);
+						return;
+					}
+				}
+			}
+			entry.node = this;
+			entries.add(entry);
+
+			if (children == null && entries.size() > MAX_ENTRIES && (long) maxX - minX > MIN_NODE_SIZE) {
+				split();
+				final List<Entry<T>> current = new ArrayList<>(entries);
+				entries.clear();
+				current.forEach(this::insert);
+			}
+		}
+
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		private void split() {
+			final int midX = (int) (((long) minX + maxX) >> 1);
+			final int midY = (int) (((long) minY + maxY) >> 1);
+			children = new Node[] { //
+					new Node<>(minX, minY, midX, midY), //
+					new Node<>(midX, minY, maxX, midY), //
+					new Node<>(minX, midY, midX, maxY), //
+					new Node<>(midX, midY, maxX, maxY) //
+			};
+		}
+
+		private void query(final int x, final int y, final List<T> result) {
+			for (int i = 0; i < entries.size(); i++) {
+				final Entry<T> entry = entries.get(i);
+				if (entry.contains(x, y)) {
+					result.add(entry.item);
+				}
+			}
+			if (children != null) {
+				for (Node<T> child : children) {
+					if (child.contains(x, y)) {
+						child.query(x, y, result);
+					}
+				}
+			}
+		}
+
+		private void query(final int minX, final int minY, final int maxX, final int maxY, final List<T> result) {
+			for (int i = 0; i < entries.size(); i++) {
+				final Entry<T> entry = entries.get(i);
+				if (entry.intersects(minX, minY, maxX, maxY)) {
+					result.add(entry.item);
+				}
+			}
+			if (children != null) {
+				for (Node<T> child : children) {
+					if (child.intersects(minX, minY, maxX, maxY)) {
+						child.query(minX, minY, maxX, maxY, result);
+					}
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,47 @@
+package main;
+
+/**
+ * Formato binrio das cenas gravadas por {@link SceneWriter} e lidas por
+ * {@link SceneReader}. Todos os valores so little-endian.
+ *
+ * <pre>
+ * Cabealho ({@value #HEADER_SIZE} bytes)
+ *   int    MAGIC ("CGN3")
+ *   int    VERSION
+ *   int    quantidade de objetos
+ *   int    quantidade de objetos raiz
+ *   long   posio da seo de vrtices
+ *
+ * Objetos ({@value #NODE_SIZE} bytes cada), em pr-ordem
+ *   int    quantidade de filhos
+ *   int    primitiva do OpenGL
+ *   float  espessura da linha
+ *   int    regra de preenchimento ({@link FillRule#ordinal()})
+ *   float  vermelho, verde, azul
+ *   double 16 elementos da matriz, em ordem de colunas
+ *   int    minX, minY, maxX, maxY dos vrtices
+ *   int    quantidade de vrtices
+ *   long   ndice do primeiro vrtice na seo de vrtices
+ *
+ * Vrtices (8 bytes cada)
+ *   int    X, Y
+ * </pre>
+ *
+ * Os registros dos objetos tm tamanho fixo e guardam os limites dos
+ * vrtices, assim a rvore pode ser montada sem ler a seo de vrtices.
+ * <p>
+ * O arquivo no tem limite de tamanho alm das quantidades acima, mas os
+ * vrtices de um nico objeto ocupam no mximo {@link Integer#MAX_VALUE}
+ * bytes, pois cada objeto  lido de um nico trecho mapeado em memria.
+ */
+final class SceneFormat {
+
+	static final int MAGIC = 'C' | 'G' << 8 | 'N' << 16 | '3' << 24;
+	static final int VERSION = 1;
+	static final int HEADER_SIZE = 24;
+	static final int NODE_SIZE = 4 * 4 + 3 * 4 + 16 * 8 + 4 * 4 + 4 + 8;
+	static final int VERTEX_SIZE = 8;
+
+	private SceneFormat() {
+	}
+}
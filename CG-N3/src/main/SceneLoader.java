@@ -0,0 +1,335 @@
+package main;
+
+import java.io.BufferedInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Carrega cenas em segundo plano, entregando os objetos ao mundo aos poucos.
+ * <p>
+ * Os objetos so montados na thread de carregamento e entregues ao mundo com
+ * {@link World#publishAll(java.util.Collection)} em lotes: um lote 
+ * publicado quando passa um quadro ({@value #BATCH_MILLIS} ms) desde o
+ * anterior ou quando junta {@value #BATCH_OBJECTS} objetos raiz. O primeiro
+ * objeto raiz  publicado assim que termina de ser lido, ento o primeiro
+ * quadro com objetos no depende do tamanho do arquivo.
+ * <p>
+ * Arquivos terminados em {@value #SVG_EXTENSION} so lidos pelo
+ * {@link SvgReader}; os demais pelo {@link SceneReader}.
+ * <p>
+ * Cancelar um carregamento interrompe a leitura e descarta o lote que ainda
+ * no foi publicado; os objetos j publicados continuam no mundo. Depois que
+ * {@link Loading#cancel()} retorna, nenhum outro lote  publicado, ento o
+ * mundo pode ser limpo em seguida.
+ * <p>
+ * Um objeto raiz s  publicado depois de lido com todos os filhos, pois os
+ * objetos publicados passam a pertencer  thread de eventos. Um arquivo com
+ * um nico grupo raiz, comum em SVG, aparece somente ao final da leitura.
+ */
+public class SceneLoader {
+
+	/** Intervalo mnimo entre dois lotes, em milissegundos. */
+	public static final int BATCH_MILLIS = 16;
+	/** Quantidade de objetos raiz que publica um lote antes do intervalo. */
+	public static final int BATCH_OBJECTS = 4096;
+	public static final String SVG_EXTENSION = ".svg";
+
+	private static final long BATCH_NANOS = TimeUnit.MILLISECONDS.toNanos(BATCH_MILLIS);
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	private final Executor executor;
+
+	/**
+	 * Cria um carregador com uma thread prpria, que no impede o programa de
+	 * terminar. Os carregamentos so feitos um de cada vez.
+	 */
+	public SceneLoader() {
+		this(Executors.newSingleThreadExecutor(runnable -> {
+			final Thread thread = new Thread(runnable, "scene-loader");
+			thread.setDaemon(true);
+			return thread;
+		}));
+	}
+
+	/**
+	 * @param executor
+	 *            executa os carregamentos.
+	 */
+	public SceneLoader(final Executor executor) {
+		this.executor = executor;
+	}
+
+	/**
+	 * Inicia o carregamento de um arquivo.
+	 *
+	 * @param path
+	 *            arquivo a ser lido.
+	 * @param world
+	 *            mundo que recebe os objetos raiz do arquivo.
+	 * @param listener
+	 *            avisado do andamento, ou <code>null</code>.
+	 * @return carregamento iniciado.
+	 */
+	public Loading load(final Path path, final World world, final Listener listener) {
+		final Loading loading = new Loading(path, world, listener);
+		executor.execute(loading.task);
+		return loading;
+	}
+
+	/**
+	 * Encerra a thread do carregador, interrompendo o carregamento em
+	 * andamento e descartando os que ainda no comearam; no tem efeito se o
+	 * executor foi passado no construtor e no  um {@link ExecutorService}.
+	 */
+	public void shutdown() {
+		if (executor instanceof ExecutorService) {
+			((ExecutorService) executor).shutdownNow();
+		}
+	}
+
+	/**
+	 * Recebe o andamento de um carregamento. Os mtodos so chamados na
+	 * thread de carregamento.
+	 */
+	public interface Listener {
+
+		/**
+		 * Chamado depois de cada lote publicado no mundo.
+		 */
+		void progress(Loading loading);
+
+		/**
+		 * Chamado uma nica vez, ao final do carregamento.
+		 *
+		 * @param error
+		 *            <code>null</code> se o arquivo foi lido por completo,
+		 *            {@link CancellationException} se o carregamento foi
+		 *            cancelado ou o erro que interrompeu a leitura.
+		 */
+		void finished(Loading loading, Throwable error);
+	}
+
+	/**
+	 * Carregamento de um arquivo. Pode ser consultado e cancelado de
+	 * qualquer thread.
+	 */
+	public static final class Loading {
+
+		private final Path path;
+		private final World world;
+		private final Listener listener;
+		private final FutureTask<Void> task = new FutureTask<>(this::call);
+
+		/* Usados somente pela thread de carregamento */
+		private final List<GraphicObject> batch = new ArrayList<>();
+		private long lastPublish;
+
+		private volatile boolean cancelled;
+		private volatile int objectCount;
+		private volatile double progress;
+
+		Loading(final Path path, final World world, final Listener listener) {
+			this.path = path;
+			this.world = world;
+			this.listener = listener;
+		}
+
+		public Path getPath() {
+			return path;
+		}
+
+		/**
+		 * @return objetos, incluindo os filhos, j publicados no mundo.
+		 */
+		public int getObjectCount() {
+			return objectCount;
+		}
+
+		/**
+		 * @return frao do arquivo j publicada no mundo, de 0 a 1.
+		 */
+		public double getProgress() {
+			return progress;
+		}
+
+		/**
+		 * Pede o fim do carregamento. A leitura para na prxima verificao,
+		 * sem publicar o lote em andamento.
+		 */
+		public synchronized void cancel() {
+			cancelled = true;
+		}
+
+		public boolean isCancelled() {
+			return cancelled;
+		}
+
+		/**
+		 * @return <code>true</code> se o carregamento terminou, por completo,
+		 *         cancelado ou com erro.
+		 */
+		public boolean isDone() {
+			return task.isDone();
+		}
+
+		/**
+		 * Espera o fim do carregamento.
+		 *
+		 * @throws IOException
+		 *             se no foi possvel ler o arquivo.
+		 * @throws CancellationException
+		 *             se o carregamento foi cancelado.
+		 * @throws InterruptedException
+		 *             se a thread foi interrompida enquanto esperava.
+		 */
+		public void await() throws IOException, InterruptedException {
+			try {
+				task.get();
+			} catch (ExecutionException e) {
+				final Throwable cause = e.getCause();
+				if (cause instanceof IOException) {
+					throw (IOException) cause;
+				}
+				if (cause instanceof RuntimeException) {
+					throw (RuntimeException) cause;
+				}
+				throw (Error) cause;
+			}
+		}
+
+		private Void call() throws IOException {
+			lastPublish = System.nanoTime() - BATCH_NANOS;
+			try {
+				checkCancelled();
+				final int objects;
+				if (path.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(SVG_EXTENSION)) {
+					objects = readSvg();
+				} else {
+					objects = readScene();
+				}
+				checkCancelled();
+				publish(objects, 1);
+			} catch (IOException | RuntimeException | Error e) {
+				batch.clear();
+				finish(e);
+				throw e;
+			}
+			finish(null);
+			return null;
+		}
+
+		/**
+		 * @return quantidade de objetos lidos.
+		 */
+		private int readSvg() throws IOException {
+			final SvgReader reader = new SvgReader();
+			final long size = Files.size(path);
+			try (CountingInputStream counting = new CountingInputStream(Files.newInputStream(path));
+					InputStream input = new BufferedInputStream(counting, BUFFER_SIZE)) {
+				reader.read(input, root -> accept(root, reader.getObjectCount(),
+						size > 0 ? (double) counting.count / size : 1));
+			}
+			return reader.getObjectCount();
+		}
+
+		/**
+		 * @return quantidade de objetos lidos.
+		 */
+		private int readScene() throws IOException {
+			final SceneReader reader = new SceneReader();
+			reader.read(path, root -> accept(root, reader.getObjectCount(),
+					(double) reader.getObjectCount() / reader.getTotalObjectCount()));
+			return reader.getObjectCount();
+		}
+
+		private void accept(final GraphicObject root, final int objects, final double read) {
+			checkCancelled();
+			batch.add(root);
+			if (batch.size() >= BATCH_OBJECTS || System.nanoTime() - lastPublish >= BATCH_NANOS) {
+				publish(objects, read);
+			}
+		}
+
+		private void publish(final int objects, final double read) {
+			if (!batch.isEmpty()) {
+				/* Sincronizado com cancel(): nada  publicado depois dele */
+				synchronized (this) {
+					checkCancelled();
+					world.publishAll(batch);
+				}
+				batch.clear();
+			}
+			lastPublish = System.nanoTime();
+			objectCount = objects;
+			progress = read;
+			if (listener != null) {
+				listener.progress(this);
+			}
+		}
+
+		private void finish(final Throwable error) {
+			if (listener != null) {
+				listener.finished(this, error);
+			}
+		}
+
+		private void checkCancelled() {
+			if (cancelled || Thread.currentThread().isInterrupted()) {
+				throw new CancellationException("Carregamento cancelado: " + path);
+			}
+		}
+
+		/**
+		 * Conta os bytes lidos do arquivo e verifica o cancelamento a cada
+		 * leitura.
+		 */
+		private final class CountingInputStream extends FilterInputStream {
+
+			private long count;
+
+			CountingInputStream(final InputStream in) {
+				super(in);
+			}
+
+			@Override
+			public int read() throws IOException {
+				checkCancelled();
+				final int value = super.read();
+				if (value >= 0) {
+					count++;
+				}
+				return value;
+			}
+
+			@Override
+			public int read(final byte[] buffer, final int offset, final int length) throws IOException {
+				checkCancelled();
+				final int read = super.read(buffer, offset, length);
+				if (read > 0) {
+					count += read;
+				}
+				return read;
+			}
+
+			@Override
+			public long skip(final long n) throws IOException {
+				final long skipped = super.skip(n);
+				count += skipped;
+				return skipped;
+			}
+		}
+	}
+}
@@ -0,0 +1,265 @@
+package main;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * L um {@link World} gravado por {@link SceneWriter}.
+ * <p>
+ * O arquivo  mapeado em memria com {@link FileChannel#map}. Somente os
+ * registros dos objetos so lidos para montar a rvore; os vrtices de cada
+ * objeto continuam no arquivo mapeado e s so copiados quando o objeto
+ * precisa deles, por exemplo ao ser desenhado pela primeira vez ou editado.
+ * <p>
+ * Um mapeamento tem no mximo {@link Integer#MAX_VALUE} bytes, por isso os
+ * objetos e os vrtices so mapeados em janelas de at
+ * {@value #WINDOW_SIZE} bytes, na ordem do arquivo. Os vrtices de um objeto
+ * ficam sempre em uma nica janela, que cresce se o objeto no couber nela;
+ * somente um objeto com mais de {@link Integer#MAX_VALUE} bytes de vrtices
+ * no pode ser lido.
+ * <p>
+ * Durante a leitura ficam disponveis a quantidade de objetos do arquivo e de
+ * objetos j lidos, que podem ser consultadas por quem recebe os objetos raiz.
+ */
+public class SceneReader {
+
+	private static final FillRule[] FILL_RULES = FillRule.values();
+	private static final int WINDOW_SIZE = 1 << 30;
+
+	private final int windowSize;
+	private int objectCount;
+	private int totalObjectCount;
+
+	public SceneReader() {
+		this(WINDOW_SIZE);
+	}
+
+	/**
+	 * @param windowSize
+	 *            tamanho mnimo, em bytes, de cada janela mapeada do arquivo.
+	 */
+	SceneReader(final int windowSize) {
+		this.windowSize = windowSize;
+	}
+
+	/**
+	 * L um arquivo de cena.
+	 *
+	 * @param path
+	 *            arquivo a ser lido.
+	 * @return novo mundo com os objetos do arquivo.
+	 * @throws IOException
+	 *             se no for possvel ler o arquivo ou se ele no estiver no
+	 *             formato esperado.
+	 */
+	public World read(final Path path) throws IOException {
+		final List<GraphicObject> roots = new ArrayList<>();
+		read(path, roots::add);
+		final World world = new World();
+		world.addAll(roots);
+		return world;
+	}
+
+	/**
+	 * L um arquivo de cena, entregando cada objeto raiz assim que todos os
+	 * seus filhos foram lidos.
+	 *
+	 * @param path
+	 *            arquivo a ser lido.
+	 * @param roots
+	 *            recebe os objetos raiz, na ordem do arquivo.
+	 * @throws IOException
+	 *             se no for possvel ler o arquivo ou se ele no estiver no
+	 *             formato esperado.
+	 */
+	public void read(final Path path, final Consumer<GraphicObject> roots) throws IOException {
+		objectCount = 0;
+		totalObjectCount = 0;
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			final long size = channel.size();
+			if (size < SceneFormat.HEADER_SIZE) {
+				throw new IOException("Arquivo no  uma cena: " + path);
+			}
+			final ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, SceneFormat.HEADER_SIZE)
+					.order(ByteOrder.LITTLE_ENDIAN);
+			if (header.getInt(0) != SceneFormat.MAGIC) {
+				throw new IOException("Arquivo no  uma cena: " + path);
+			}
+			if (header.getInt(4) != SceneFormat.VERSION) {
+				throw new IOException("Verso de cena no suportada: " + header.getInt(4));
+			}
+			final int nodeCount = header.getInt(8);
+			final long vertexStart = header.getLong(16);
+			if (nodeCount < 0 || vertexStart != SceneFormat.HEADER_SIZE + (long) nodeCount * SceneFormat.NODE_SIZE
+					|| vertexStart > size) {
+				throw corrupted(path);
+			}
+			totalObjectCount = nodeCount;
+			readNodes(path, new Window(channel, size, windowSize), new Window(channel, size, windowSize),
+					nodeCount, vertexStart, roots);
+		}
+	}
+
+	private void readNodes(final Path path, final Window nodes, final Window vertices, final int nodeCount,
+			final long vertexStart, final Consumer<GraphicObject> roots) throws IOException {
+		GraphicObject root = null;
+		/* Pais cujos filhos ainda esto sendo lidos e quantos faltam */
+		GraphicObject[] parents = new GraphicObject[16];
+		int[] remaining = new int[16];
+		int depth = 0;
+		final int[] bounds = new int[4];
+
+		for (int i = 0; i < nodeCount; i++) {
+			final int offset = nodes.map(SceneFormat.HEADER_SIZE + (long) i * SceneFormat.NODE_SIZE,
+					SceneFormat.NODE_SIZE);
+			final int childCount = nodes.buffer.getInt(offset);
+			final GraphicObject node = readNode(nodes.buffer, offset, vertices, vertexStart, bounds, path);
+			objectCount++;
+
+			if (depth == 0) {
+				root = node;
+			} else {
+				parents[depth - 1].addGraphicObject(node);
+				remaining[depth - 1]--;
+			}
+			if (childCount > 0) {
+				if (depth == parents.length) {
+					parents = Arrays.copyOf(parents, depth * 2);
+					remaining = Arrays.copyOf(remaining, depth * 2);
+				}
+				parents[depth] = node;
+				remaining[depth] = childCount;
+				depth++;
+			} else if (childCount < 0) {
+				throw corrupted(path);
+			}
+			while (depth > 0 && remaining[depth - 1] == 0) {
+				parents[--depth] = null;
+			}
+			if (depth == 0) {
+				roots.accept(root);
+				root = null;
+			}
+		}
+		if (depth != 0) {
+			throw corrupted(path);
+		}
+	}
+
+	/**
+	 * @return objetos lidos at agora na leitura atual, ou na ltima.
+	 */
+	public int getObjectCount() {
+		return objectCount;
+	}
+
+	/**
+	 * @return objetos do arquivo da leitura atual, ou da ltima.
+	 */
+	public int getTotalObjectCount() {
+		return totalObjectCount;
+	}
+
+	private static GraphicObject readNode(final ByteBuffer map, final int offset, final Window vertices,
+			final long vertexStart, final int[] bounds, final Path path) throws IOException {
+		final GraphicObject node = new GraphicObject();
+		int position = offset + 4;
+		node.setPrimitive(map.getInt(position));
+		node.setLineWidth(map.getFloat(position + 4));
+		final int fillRule = map.getInt(position + 8);
+		if (fillRule < 0 || fillRule >= FILL_RULES.length) {
+			throw corrupted(path);
+		}
+		node.setFillRule(FILL_RULES[fillRule]);
+		node.setColor(new float[] { map.getFloat(position + 12), map.getFloat(position + 16),
+				map.getFloat(position + 20) });
+		position += 24;
+
+		final double[] matrix = node.transform.getDate();
+		for (int i = 0; i < matrix.length; i++) {
+			matrix[i] = map.getDouble(position + i * 8);
+		}
+		node.transform.changed();
+		position += 16 * 8;
+
+		for (int i = 0; i < 4; i++) {
+			bounds[i] = map.getInt(position + i * 4);
+		}
+		final int vertexCount = map.getInt(position + 16);
+		final long vertexIndex = map.getLong(position + 20);
+		if (vertexCount < 0 || vertexIndex < 0) {
+			throw corrupted(path);
+		}
+		if (vertexCount > 0) {
+			final long start = vertexStart + vertexIndex * SceneFormat.VERTEX_SIZE;
+			final long length = (long) vertexCount * SceneFormat.VERTEX_SIZE;
+			if (vertexIndex > (vertices.fileSize - vertexStart) / SceneFormat.VERTEX_SIZE
+					|| start + length > vertices.fileSize) {
+				throw corrupted(path);
+			}
+			if (length > Integer.MAX_VALUE) {
+				throw new IOException("Objeto com vrtices demais: " + vertexCount + " em " + path);
+			}
+			final int at = vertices.map(start, (int) length);
+			final ByteBuffer slice = vertices.buffer.duplicate();
+			slice.limit(at + (int) length);
+			slice.position(at);
+			node.mapVertices(slice.slice().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer(), vertexCount, bounds);
+		}
+		return node;
+	}
+
+	private static IOException corrupted(final Path path) {
+		return new IOException("Arquivo de cena corrompido: " + path);
+	}
+
+	/**
+	 * Trecho do arquivo mapeado em memria, trocado por outro quando uma
+	 * leitura cai fora dele. As janelas anteriores continuam mapeadas enquanto
+	 * houver objetos usando os seus vrtices.
+	 */
+	private static final class Window {
+
+		private final FileChannel channel;
+		private final long fileSize;
+		private final int size;
+		private MappedByteBuffer buffer;
+		private long start;
+		private long end;
+
+		private Window(final FileChannel channel, final long fileSize, final int size) {
+			this.channel = channel;
+			this.fileSize = fileSize;
+			this.size = size;
+		}
+
+		/**
+		 * Garante que um trecho do arquivo est mapeado em {@link #buffer}.
+		 *
+		 * @param position
+		 *            incio do trecho no arquivo.
+		 * @param length
+		 *            tamanho do trecho, que deve terminar dentro do arquivo.
+		 * @return posio do incio do trecho em {@link #buffer}.
+		 */
+		private int map(final long position, final int length) throws IOException {
+			if (buffer == null || position < start || position + length > end) {
+				final long mapped = Math.min(Math.max(size, length), fileSize - position);
+				buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, mapped);
+				buffer.order(ByteOrder.LITTLE_ENDIAN);
+				start = position;
+				end = position + mapped;
+			}
+			return (int) (position - start);
+		}
+	}
+}
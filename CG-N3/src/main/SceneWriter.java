@@ -0,0 +1,137 @@
+package main;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.ListIterator;
+
+/**
+ * Grava um {@link World} no formato binrio descrito em {@link SceneFormat}.
+ */
+public class SceneWriter {
+
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+	private FileChannel channel;
+
+	/**
+	 * Grava todos os objetos do mundo, substituindo o arquivo se ele existir.
+	 *
+	 * @param world
+	 *            mundo a ser gravado.
+	 * @param path
+	 *            arquivo de destino.
+	 * @throws IOException
+	 *             se no for possvel gravar o arquivo.
+	 */
+	public void write(final World world, final Path path) throws IOException {
+		final List<GraphicObject> nodes = preOrder(world.getObjects());
+
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+			this.channel = channel;
+			buffer.clear();
+
+			buffer.putInt(SceneFormat.MAGIC);
+			buffer.putInt(SceneFormat.VERSION);
+			buffer.putInt(nodes.size());
+			buffer.putInt(world.getObjects().size());
+			buffer.putLong(SceneFormat.HEADER_SIZE + (long) nodes.size() * SceneFormat.NODE_SIZE);
+
+			long vertexIndex = 0;
+			for (GraphicObject node : nodes) {
+				writeNode(node, vertexIndex);
+				vertexIndex += node.getVertexCount();
+			}
+			for (GraphicObject node : nodes) {
+				final VertexArray vertices = node.vertexArray();
+				for (int i = 0; i < vertices.size(); i++) {
+					require(SceneFormat.VERTEX_SIZE);
+					buffer.putInt(vertices.getX(i));
+					buffer.putInt(vertices.getY(i));
+				}
+			}
+			flush();
+		} finally {
+			this.channel = null;
+		}
+	}
+
+	private void writeNode(final GraphicObject node, final long vertexIndex) throws IOException {
+		require(SceneFormat.NODE_SIZE);
+		buffer.putInt(node.getGrapicObjects().size());
+		buffer.putInt(node.getPrimitive());
+		buffer.putFloat(node.getLineWidth());
+		buffer.putInt(node.getFillRule().ordinal());
+		final float[] color = node.getColor();
+		buffer.putFloat(color[0]);
+		buffer.putFloat(color[1]);
+		buffer.putFloat(color[2]);
+		for (double value : node.transform.getDate()) {
+			buffer.putDouble(value);
+		}
+		final BBox bbox = node.getBBox();
+		if (bbox != null) {
+			buffer.putInt(bbox.getMinX());
+			buffer.putInt(bbox.getMinY());
+			buffer.putInt(bbox.getMaxX());
+			buffer.putInt(bbox.getMaxY());
+		} else {
+			buffer.putInt(0);
+			buffer.putInt(0);
+			buffer.putInt(0);
+			buffer.putInt(0);
+		}
+		buffer.putInt(node.getVertexCount());
+		buffer.putLong(vertexIndex);
+	}
+
+	private void require(final int bytes) throws IOException {
+		if (buffer.remaining() < bytes) {
+			flush();
+		}
+	}
+
+	private void flush() throws IOException {
+		buffer.flip();
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+		buffer.clear();
+	}
+
+	/**
+	 * Lista os objetos na ordem em que a rvore  percorrida, sem recurso.
+	 */
+	private static List<GraphicObject> preOrder(final List<GraphicObject> roots) {
+		final List<GraphicObject> nodes = new ArrayList<>();
+		final Deque<GraphicObject> pending = new ArrayDeque<>();
+		pushReversed(roots, pending);
+		while (!pending.isEmpty()) {
+			final GraphicObject node = pending.pop();
+			nodes.add(node);
+			pushReversed(node.getGrapicObjects(), pending);
+		}
+		return nodes;
+	}
+
+	/**
+	 * Empilha os objetos de trs para frente, para que o primeiro seja
+	 * desempilhado primeiro. As listas so encadeadas, por isso o acesso 
+	 * pelo iterador e no pelo ndice.
+	 */
+	private static void pushReversed(final List<GraphicObject> objects, final Deque<GraphicObject> pending) {
+		final ListIterator<GraphicObject> iterator = objects.listIterator(objects.size());
+		while (iterator.hasPrevious()) {
+			pending.push(iterator.previous());
+		}
+	}
+}
@@ -0,0 +1,839 @@
+package main;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.IntBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+import javax.media.opengl.GL;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * L objetos de um arquivo SVG em uma nica passada com um
+ * {@link XMLStreamReader}, sem montar o documento em memria. Cada objeto
+ * raiz  entregue assim que o seu elemento termina, ento a memria usada
+ * pela leitura depende do maior elemento e da profundidade do documento, e
+ * no do tamanho do arquivo.
+ * <p>
+ * So lidos <code>&lt;g&gt;</code>, <code>&lt;polyline&gt;</code>,
+ * <code>&lt;polygon&gt;</code>, <code>&lt;line&gt;</code>,
+ * <code>&lt;rect&gt;</code> e <code>&lt;path&gt;</code>, com os atributos
+ * <code>transform</code>, <code>stroke</code>, <code>stroke-width</code> e
+ * <code>fill-rule</code>, tambm dentro de <code>style</code>. Cada grupo vira
+ * um objeto e cada forma vira um filho do grupo em que est; a primeira forma
+ * de um grupo ainda vazio e sem transformao prpria passa a ser os vrtices
+ * do prprio grupo, que  como o {@link SvgWriter} grava um objeto. Em um
+ * <code>&lt;path&gt;</code> cada subcaminho vira um objeto, as curvas so
+ * aproximadas por {@value #CURVE_SEGMENTS} segmentos e os arcos por um
+ * segmento at o ponto final. As coordenadas so arredondadas para inteiros.
+ * <p>
+ * O eixo Y do SVG  para baixo e o do editor  para cima, por isso os objetos
+ * raiz so invertidos em Y, exceto os que esto no grupo do mundo gravado pelo
+ * {@link SvgWriter}, que j faz essa inverso.
+ * <p>
+ * Ao final de cada leitura ficam disponveis a quantidade de objetos e de
+ * vrtices lidos e a taxa de leitura em vrtices por segundo.
+ */
+public class SvgReader {
+
+	private static final int BUFFER_SIZE = 1 << 16;
+	private static final int CURVE_SEGMENTS = 8;
+
+	private final XMLInputFactory factory;
+	/* Elementos abertos, do documento at o atual */
+	private final List<Frame> frames = new ArrayList<>();
+	/* Coordenadas X e Y intercaladas da forma sendo lida */
+	private int[] coords = new int[1024];
+	private int count;
+	private final int[] bounds = new int[4];
+	private final Affine2D step = new Affine2D();
+	private Consumer<GraphicObject> roots;
+	private int worldDepth;
+
+	private int objectCount;
+	private long vertexCount;
+	private long elapsedNanos;
+
+	public SvgReader() {
+		factory = XMLInputFactory.newInstance();
+		factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+		factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+	}
+
+	/**
+	 * L um arquivo SVG.
+	 *
+	 * @param path
+	 *            arquivo a ser lido.
+	 * @return novo mundo com os objetos do arquivo.
+	 * @throws IOException
+	 *             se no for possvel ler o arquivo ou se ele no for um SVG
+	 *             vlido.
+	 */
+	public World read(final Path path) throws IOException {
+		final List<GraphicObject> roots = new ArrayList<>();
+		try (InputStream input = new BufferedInputStream(Files.newInputStream(path), BUFFER_SIZE)) {
+			read(input, roots::add);
+		}
+		final World world = new World();
+		world.addAll(roots);
+		return world;
+	}
+
+	/**
+	 * L um documento SVG, entregando cada objeto raiz com todos os seus
+	 * filhos assim que o elemento dele termina.
+	 *
+	 * @param input
+	 *            documento a ser lido; no  fechado.
+	 * @param roots
+	 *            recebe os objetos raiz, na ordem do documento.
+	 * @throws IOException
+	 *             se no for possvel ler o documento ou se ele no for um
+	 *             SVG vlido.
+	 */
+	public void read(final InputStream input, final Consumer<GraphicObject> roots) throws IOException {
+		final long start = System.nanoTime();
+		objectCount = 0;
+		vertexCount = 0;
+		worldDepth = 0;
+		frames.clear();
+		this.roots = roots;
+		XMLStreamReader xml = null;
+		try {
+			xml = factory.createXMLStreamReader(input);
+			while (xml.hasNext()) {
+				switch (xml.next()) {
+				case XMLStreamConstants.START_ELEMENT:
+					startElement(xml);
+					break;
+				case XMLStreamConstants.END_ELEMENT:
+					endElement();
+					break;
+				default:
+					break;
+				}
+			}
+		} catch (XMLStreamException e) {
+			throw new IOException("SVG invlido: " + e.getMessage(), e);
+		} finally {
+			if (xml != null) {
+				try {
+					xml.close();
+				} catch (XMLStreamException e) {
+					// nada a liberar alm do leitor
+				}
+			}
+			frames.clear();
+			this.roots = null;
+			elapsedNanos = System.nanoTime() - start;
+		}
+	}
+
+	/**
+	 * @return quantidade de objetos criados na ltima leitura.
+	 */
+	public int getObjectCount() {
+		return objectCount;
+	}
+
+	/**
+	 * @return quantidade de vrtices lidos na ltima leitura.
+	 */
+	public long getVertexCount() {
+		return vertexCount;
+	}
+
+	/**
+	 * @return durao da ltima leitura, em nanossegundos.
+	 */
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+
+	/**
+	 * @return vrtices lidos por segundo na ltima leitura.
+	 */
+	public double getVerticesPerSecond() {
+		return elapsedNanos > 0 ? vertexCount * 1e9 / elapsedNanos : 0;
+	}
+
+	private void startElement(final XMLStreamReader xml) throws IOException, XMLStreamException {
+		final Frame parent = frames.isEmpty() ? Frame.DOCUMENT : frames.get(frames.size() - 1);
+		final Style style = parent.style.derive(xml);
+		final String name = xml.getLocalName();
+		final String transform = xml.getAttributeValue(null, "transform");
+
+		GraphicObject object = null;
+		switch (name) {
+		case "g":
+			if (parent.object == null && SvgWriter.WORLD_ID.equals(xml.getAttributeValue(null, "id"))) {
+				worldDepth++;
+				frames.add(new Frame(null, style, true));
+				return;
+			}
+			object = new GraphicObject();
+			applyTransform(object, transform);
+			object.setColor(style.color);
+			object.setLineWidth(style.lineWidth);
+			object.setFillRule(style.fillRule);
+			if (xml.getAttributeValue(null, SvgWriter.PRIMITIVE_ATTRIBUTE) != null) {
+				object.setPrimitive(primitiveOf(xml, false));
+			}
+			addObject(parent, object);
+			break;
+		case "polyline":
+		case "polygon":
+			count = 0;
+			readPoints(xml.getAttributeValue(null, "points"));
+			addShape(parent, style, transform, primitiveOf(xml, "polygon".equals(name)));
+			break;
+		case "line":
+			count = 0;
+			addVertex(number(xml, "x1"), number(xml, "y1"));
+			addVertex(number(xml, "x2"), number(xml, "y2"));
+			addShape(parent, style, transform, GL.GL_LINE_STRIP);
+			break;
+		case "rect": {
+			final double x = number(xml, "x");
+			final double y = number(xml, "y");
+			final double width = number(xml, "width");
+			final double height = number(xml, "height");
+			count = 0;
+			addVertex(x, y);
+			addVertex(x + width, y);
+			addVertex(x + width, y + height);
+			addVertex(x, y + height);
+			addShape(parent, style, transform, GL.GL_LINE_LOOP);
+			break;
+		}
+		case "path":
+			readPath(xml.getAttributeValue(null, "d"), parent, style, transform);
+			break;
+		case "defs":
+		case "symbol":
+		case "clipPath":
+		case "mask":
+		case "marker":
+		case "pattern":
+			skipElement(xml);
+			return;
+		default:
+			break;
+		}
+		/* Formas no tm filhos; o que houver dentro delas  ignorado */
+		frames.add(new Frame("g".equals(name) ? object : null, style, false));
+	}
+
+	private void endElement() {
+		final Frame frame = frames.remove(frames.size() - 1);
+		if (frame.world) {
+			worldDepth--;
+		} else if (frame.object != null && frame.object.getParent() == null) {
+			roots.accept(frame.object);
+		}
+	}
+
+	private static void skipElement(final XMLStreamReader xml) throws XMLStreamException {
+		int depth = 1;
+		while (depth > 0) {
+			final int event = xml.next();
+			if (event == XMLStreamConstants.START_ELEMENT) {
+				depth++;
+			} else if (event == XMLStreamConstants.END_ELEMENT) {
+				depth--;
+			}
+		}
+	}
+
+	/**
+	 * Liga um objeto novo ao grupo aberto mais prximo. Objetos raiz de
+	 * grupos s so entregues quando o grupo termina.
+	 */
+	private void addObject(final Frame parent, final GraphicObject object) {
+		objectCount++;
+		final GraphicObject group = openGroup(parent);
+		if (group != null) {
+			group.addGraphicObject(object);
+		} else if (worldDepth == 0) {
+			flipY(object.transform);
+		}
+	}
+
+	private GraphicObject openGroup(final Frame parent) {
+		if (parent.object != null) {
+			return parent.object;
+		}
+		for (int i = frames.size() - 1; i >= 0; i--) {
+			if (frames.get(i).object != null) {
+				return frames.get(i).object;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Cria o objeto dos vrtices lidos, ou usa o grupo em que a forma est se
+	 * ele ainda no tem vrtices nem filhos.
+	 */
+	private void addShape(final Frame parent, final Style style, final String transform, final int primitive)
+			throws IOException {
+		if (count == 0) {
+			return;
+		}
+		final GraphicObject group = openGroup(parent);
+		final boolean merge = transform == null && group != null && parent.object == group
+				&& group.getVertexCount() == 0 && group.getGrapicObjects().isEmpty();
+		final GraphicObject object = merge ? group : new GraphicObject();
+		if (!merge) {
+			applyTransform(object, transform);
+			addObject(parent, object);
+		}
+		object.setPrimitive(primitive);
+		object.setColor(style.color);
+		object.setLineWidth(style.lineWidth);
+		object.setFillRule(style.fillRule);
+		object.mapVertices(IntBuffer.wrap(Arrays.copyOf(coords, count * 2)), count, bounds);
+		vertexCount += count;
+		count = 0;
+
+		if (!merge && object.getParent() == null) {
+			roots.accept(object);
+		}
+	}
+
+	private void addVertex(final double x, final double y) {
+		final int ix = (int) Math.round(x);
+		final int iy = (int) Math.round(y);
+		if (count * 2 == coords.length) {
+			coords = Arrays.copyOf(coords, coords.length * 2);
+		}
+		coords[count * 2] = ix;
+		coords[count * 2 + 1] = iy;
+		if (count == 0) {
+			bounds[0] = bounds[2] = ix;
+			bounds[1] = bounds[3] = iy;
+		} else {
+			bounds[0] = Math.min(bounds[0], ix);
+			bounds[1] = Math.min(bounds[1], iy);
+			bounds[2] = Math.max(bounds[2], ix);
+			bounds[3] = Math.max(bounds[3], iy);
+		}
+		count++;
+	}
+
+	private void readPoints(final String points) throws IOException {
+		if (points == null) {
+			return;
+		}
+		final Lexer lexer = new Lexer(points);
+		while (lexer.hasNumber()) {
+			final double x = lexer.number();
+			addVertex(x, lexer.number());
+		}
+	}
+
+	/**
+	 * L um caminho, criando um objeto para cada subcaminho.
+	 */
+	private void readPath(final String data, final Frame parent, final Style style, final String transform)
+			throws IOException {
+		if (data == null) {
+			return;
+		}
+		final Lexer lexer = new Lexer(data);
+		count = 0;
+		double x = 0;
+		double y = 0;
+		double startX = 0;
+		double startY = 0;
+		/* ltimo ponto de controle, para S e T */
+		double controlX = 0;
+		double controlY = 0;
+		char command = 0;
+		char previous = 0;
+		while (true) {
+			if (lexer.hasCommand()) {
+				command = lexer.command();
+			} else if (!lexer.hasNumber()) {
+				break;
+			} else if (command == 0) {
+				throw new IOException("Caminho SVG deve comear com M: " + lexer);
+			}
+			final boolean relative = Character.isLowerCase(command);
+			if (previous == 'Z' && count == 0 && Character.toUpperCase(command) != 'M'
+					&& Character.toUpperCase(command) != 'Z') {
+				/* Sem M depois de Z, o prximo subcaminho comea no incio do anterior */
+				addVertex(x, y);
+			}
+			final double ox = relative ? x : 0;
+			final double oy = relative ? y : 0;
+			switch (Character.toUpperCase(command)) {
+			case 'M':
+				addShape(parent, style, transform, GL.GL_LINE_STRIP);
+				x = ox + lexer.number();
+				y = oy + lexer.number();
+				startX = x;
+				startY = y;
+				addVertex(x, y);
+				/* Pares seguintes a um M so linhas */
+				command = relative ? 'l' : 'L';
+				break;
+			case 'L':
+				x = ox + lexer.number();
+				y = oy + lexer.number();
+				addVertex(x, y);
+				break;
+			case 'H':
+				x = ox + lexer.number();
+				addVertex(x, y);
+				break;
+			case 'V':
+				y = oy + lexer.number();
+				addVertex(x, y);
+				break;
+			case 'C': {
+				final double x1 = ox + lexer.number();
+				final double y1 = oy + lexer.number();
+				controlX = ox + lexer.number();
+				controlY = oy + lexer.number();
+				final double ex = ox + lexer.number();
+				final double ey = oy + lexer.number();
+				addCubic(x, y, x1, y1, controlX, controlY, ex, ey);
+				x = ex;
+				y = ey;
+				break;
+			}
+			case 'S': {
+				final boolean smooth = previous == 'C' || previous == 'S';
+				final double x1 = smooth ? 2 * x - controlX : x;
+				final double y1 = smooth ? 2 * y - controlY : y;
+				controlX = ox + lexer.number();
+				controlY = oy + lexer.number();
+				final double ex = ox + lexer.number();
+				final double ey = oy + lexer.number();
+				addCubic(x, y, x1, y1, controlX, controlY, ex, ey);
+				x = ex;
+				y = ey;
+				break;
+			}
+			case 'Q': {
+				controlX = ox + lexer.number();
+				controlY = oy + lexer.number();
+				final double ex = ox + lexer.number();
+				final double ey = oy + lexer.number();
+				addQuadratic(x, y, controlX, controlY, ex, ey);
+				x = ex;
+				y = ey;
+				break;
+			}
+			case 'T': {
+				final boolean smooth = previous == 'Q' || previous == 'T';
+				controlX = smooth ? 2 * x - controlX : x;
+				controlY = smooth ? 2 * y - controlY : y;
+				final double ex = ox + lexer.number();
+				final double ey = oy + lexer.number();
+				addQuadratic(x, y, controlX, controlY, ex, ey);
+				x = ex;
+				y = ey;
+				break;
+			}
+			case 'A':
+				for (int i = 0; i < 5; i++) {
+					lexer.number();
+				}
+				x = ox + lexer.number();
+				y = oy + lexer.number();
+				addVertex(x, y);
+				break;
+			case 'Z':
+				addShape(parent, style, transform, GL.GL_LINE_LOOP);
+				x = startX;
+				y = startY;
+				break;
+			default:
+				throw new IOException("Comando de caminho SVG no suportado: " + command);
+			}
+			previous = Character.toUpperCase(command);
+		}
+		addShape(parent, style, transform, GL.GL_LINE_STRIP);
+	}
+
+	private void addCubic(final double x0, final double y0, final double x1, final double y1, final double x2,
+			final double y2, final double x3, final double y3) {
+		for (int i = 1; i <= CURVE_SEGMENTS; i++) {
+			final double t = (double) i / CURVE_SEGMENTS;
+			final double u = 1 - t;
+			final double a = u * u * u;
+			final double b = 3 * u * u * t;
+			final double c = 3 * u * t * t;
+			final double d = t * t * t;
+			addVertex(a * x0 + b * x1 + c * x2 + d * x3, a * y0 + b * y1 + c * y2 + d * y3);
+		}
+	}
+
+	private void addQuadratic(final double x0, final double y0, final double x1, final double y1, final double x2,
+			final double y2) {
+		for (int i = 1; i <= CURVE_SEGMENTS; i++) {
+			final double t = (double) i / CURVE_SEGMENTS;
+			final double u = 1 - t;
+			addVertex(u * u * x0 + 2 * u * t * x1 + t * t * x2, u * u * y0 + 2 * u * t * y1 + t * t * y2);
+		}
+	}
+
+	/**
+	 * Aplica uma lista de transformaes SVG, como
+	 * <code>translate(10 20) rotate(45)</code>,  transformao de um objeto
+	 * ainda no ligado a um pai.
+	 */
+	private void applyTransform(final GraphicObject object, final String transform) throws IOException {
+		if (transform == null) {
+			return;
+		}
+		final Lexer lexer = new Lexer(transform);
+		while (lexer.hasName()) {
+			final String name = lexer.name();
+			lexer.expect('(');
+			switch (name) {
+			case "matrix": {
+				final double a = lexer.number();
+				final double b = lexer.number();
+				final double c = lexer.number();
+				final double d = lexer.number();
+				final double e = lexer.number();
+				final double f = lexer.number();
+				step.set(a, c, e, b, d, f);
+				break;
+			}
+			case "translate": {
+				final double tx = lexer.number();
+				step.setTranslation(tx, lexer.hasNumber() ? lexer.number() : 0);
+				break;
+			}
+			case "scale": {
+				final double sx = lexer.number();
+				final double sy = lexer.hasNumber() ? lexer.number() : sx;
+				step.set(sx, 0, 0, 0, sy, 0);
+				break;
+			}
+			case "rotate": {
+				final double radians = Math.toRadians(lexer.number());
+				if (lexer.hasNumber()) {
+					final double cx = lexer.number();
+					step.setRotation(radians, cx, lexer.number());
+				} else {
+					step.setRotation(radians, 0, 0);
+				}
+				break;
+			}
+			case "skewX":
+				step.set(1, Math.tan(Math.toRadians(lexer.number())), 0, 0, 1, 0);
+				break;
+			case "skewY":
+				step.set(1, 0, 0, Math.tan(Math.toRadians(lexer.number())), 1, 0);
+				break;
+			default:
+				throw new IOException("Transformao SVG no suportada: " + name);
+			}
+			lexer.expect(')');
+			step.concatenateTo(object.transform);
+		}
+		if (!lexer.atEnd()) {
+			throw new IOException("Transformao SVG invlida: " + transform);
+		}
+	}
+
+	/**
+	 * Inverte o eixo Y depois da transformao (<code>t = flip * t</code>).
+	 */
+	private static void flipY(final Transform transform) {
+		final double[] m = transform.getDate();
+		m[1] = -m[1];
+		m[5] = -m[5];
+		m[9] = -m[9];
+		m[13] = -m[13];
+		transform.changed();
+	}
+
+	private static int primitiveOf(final XMLStreamReader xml, final boolean polygon) throws IOException {
+		final String name = xml.getAttributeValue(null, SvgWriter.PRIMITIVE_ATTRIBUTE);
+		if (name == null) {
+			return polygon ? GL.GL_LINE_LOOP : GL.GL_LINE_STRIP;
+		}
+		switch (name) {
+		case "points":
+			return GL.GL_POINTS;
+		case "lines":
+			return GL.GL_LINES;
+		case "line-strip":
+			return GL.GL_LINE_STRIP;
+		case "line-loop":
+			return GL.GL_LINE_LOOP;
+		default:
+			try {
+				return Integer.parseInt(name);
+			} catch (NumberFormatException e) {
+				throw new IOException("Primitiva desconhecida: " + name, e);
+			}
+		}
+	}
+
+	private static double number(final XMLStreamReader xml, final String attribute) throws IOException {
+		final String value = xml.getAttributeValue(null, attribute);
+		if (value == null) {
+			return 0;
+		}
+		final Lexer lexer = new Lexer(value);
+		return lexer.number();
+	}
+
+	/**
+	 * Elemento aberto: o objeto do grupo, se houver, e o estilo herdado pelos
+	 * elementos de dentro.
+	 */
+	private static final class Frame {
+
+		static final Frame DOCUMENT = new Frame(null, Style.DEFAULT, false);
+
+		final GraphicObject object;
+		final Style style;
+		final boolean world;
+
+		Frame(final GraphicObject object, final Style style, final boolean world) {
+			this.object = object;
+			this.style = style;
+			this.world = world;
+		}
+	}
+
+	/**
+	 * Atributos de apresentao herdados pelos elementos filhos.
+	 */
+	private static final class Style {
+
+		static final Style DEFAULT = new Style(new float[] { 0f, 0f, 0f }, 3f, FillRule.EVEN_ODD);
+
+		final float[] color;
+		final float lineWidth;
+		final FillRule fillRule;
+
+		Style(final float[] color, final float lineWidth, final FillRule fillRule) {
+			this.color = color;
+			this.lineWidth = lineWidth;
+			this.fillRule = fillRule;
+		}
+
+		/**
+		 * @return estilo do elemento atual, ou este mesmo estilo se o
+		 *         elemento no altera nada.
+		 */
+		Style derive(final XMLStreamReader xml) throws IOException {
+			String stroke = xml.getAttributeValue(null, "stroke");
+			String width = xml.getAttributeValue(null, "stroke-width");
+			String rule = xml.getAttributeValue(null, "fill-rule");
+			final String style = xml.getAttributeValue(null, "style");
+			if (style != null) {
+				for (String declaration : style.split(";")) {
+					final int colon = declaration.indexOf(':');
+					if (colon < 0) {
+						continue;
+					}
+					final String property = declaration.substring(0, colon).trim();
+					final String value = declaration.substring(colon + 1).trim();
+					if ("stroke".equals(property)) {
+						stroke = value;
+					} else if ("stroke-width".equals(property)) {
+						width = value;
+					} else if ("fill-rule".equals(property)) {
+						rule = value;
+					}
+				}
+			}
+			if (stroke == null && width == null && rule == null) {
+				return this;
+			}
+			final float[] newColor = stroke != null ? parseColor(stroke, color) : color;
+			final float newWidth = width != null ? (float) new Lexer(width).number() : lineWidth;
+			final FillRule newRule;
+			if ("nonzero".equals(rule)) {
+				newRule = FillRule.NON_ZERO;
+			} else if ("evenodd".equals(rule)) {
+				newRule = FillRule.EVEN_ODD;
+			} else {
+				newRule = fillRule;
+			}
+			return new Style(newColor, newWidth, newRule);
+		}
+
+		/**
+		 * L cores <code>#rgb</code>, <code>#rrggbb</code> e
+		 * <code>rgb(r, g, b)</code>; outras cores mantm a cor herdada.
+		 */
+		private static float[] parseColor(final String value, final float[] inherited) throws IOException {
+			if (value.startsWith("#") && (value.length() == 4 || value.length() == 7)) {
+				try {
+					final int rgb = Integer.parseInt(value.substring(1), 16);
+					if (value.length() == 4) {
+						return new float[] { ((rgb >> 8) & 0xF) / 15f, ((rgb >> 4) & 0xF) / 15f, (rgb & 0xF) / 15f };
+					}
+					return new float[] { ((rgb >> 16) & 0xFF) / 255f, ((rgb >> 8) & 0xFF) / 255f,
+							(rgb & 0xFF) / 255f };
+				} catch (NumberFormatException e) {
+					throw new IOException("Cor SVG invlida: " + value, e);
+				}
+			}
+			if (value.startsWith("rgb(")) {
+				final Lexer lexer = new Lexer(value.substring(4));
+				final float[] color = new float[3];
+				for (int i = 0; i < 3; i++) {
+					final double channel = lexer.number();
+					final double max = lexer.percent() ? 100 : 255;
+					color[i] = (float) Math.max(0, Math.min(1, channel / max));
+				}
+				return color;
+			}
+			return inherited;
+		}
+	}
+
+	/**
+	 * Percorre os nmeros, nomes e comandos de um atributo, ignorando
+	 * espaos e vrgulas entre eles.
+	 */
+	private static final class Lexer {
+
+		private final String text;
+		private int position;
+
+		Lexer(final String text) {
+			this.text = text;
+		}
+
+		boolean atEnd() {
+			skipSeparators();
+			return position == text.length();
+		}
+
+		boolean hasNumber() {
+			skipSeparators();
+			if (position == text.length()) {
+				return false;
+			}
+			final char c = text.charAt(position);
+			return (c >= '0' && c <= '9') || c == '-' || c == '+' || c == '.';
+		}
+
+		boolean hasCommand() {
+			skipSeparators();
+			if (position == text.length()) {
+				return false;
+			}
+			final char c = text.charAt(position);
+			return Character.isLetter(c) && c != 'e' && c != 'E';
+		}
+
+		char command() {
+			return text.charAt(position++);
+		}
+
+		boolean hasName() {
+			return hasCommand();
+		}
+
+		String name() {
+			final int start = position;
+			while (position < text.length() && Character.isLetter(text.charAt(position))) {
+				position++;
+			}
+			return text.substring(start, position);
+		}
+
+		void expect(final char expected) throws IOException {
+			skipSeparators();
+			if (position == text.length() || text.charAt(position) != expected) {
+				throw new IOException("Esperado '" + expected + "' na posio " + position + ": " + this);
+			}
+			position++;
+		}
+
+		boolean percent() {
+			if (position < text.length() && text.charAt(position) == '%') {
+				position++;
+				return true;
+			}
+			return false;
+		}
+
+		/**
+		 * L um nmero. Como no SVG, um sinal ou um segundo ponto decimal
+		 * comeam o prximo nmero, por exemplo <code>1.5.5-2</code>.
+		 */
+		double number() throws IOException {
+			if (!hasNumber()) {
+				throw new IOException("Nmero esperado na posio " + position + ": " + this);
+			}
+			final int start = position;
+			boolean decimal = false;
+			if (text.charAt(position) == '-' || text.charAt(position) == '+') {
+				position++;
+			}
+			long integer = 0;
+			int digits = 0;
+			while (position < text.length()) {
+				final char c = text.charAt(position);
+				if (c >= '0' && c <= '9') {
+					integer = integer * 10 + (c - '0');
+					digits++;
+				} else if (c == '.' && !decimal) {
+					decimal = true;
+				} else if ((c == 'e' || c == 'E') && position + 1 < text.length()
+						&& "0123456789+-".indexOf(text.charAt(position + 1)) >= 0) {
+					decimal = true;
+					position++;
+					if (text.charAt(position) == '-' || text.charAt(position) == '+') {
+						position++;
+					}
+					while (position < text.length() && Character.isDigit(text.charAt(position))) {
+						position++;
+					}
+					break;
+				} else {
+					break;
+				}
+				position++;
+			}
+			if (!decimal && digits > 0 && digits < 18) {
+				return text.charAt(start) == '-' ? -integer : integer;
+			}
+			try {
+				return Double.parseDouble(text.substring(start, position));
+			} catch (NumberFormatException e) {
+				throw new IOException("Nmero invlido na posio " + start + ": " + this, e);
+			}
+		}
+
+		private void skipSeparators() {
+			while (position < text.length()) {
+				final char c = text.charAt(position);
+				if (c != ',' && !Character.isWhitespace(c)) {
+					break;
+				}
+				position++;
+			}
+		}
+
+		@Override
+		public String toString() {
+			return text.length() > 40 ? text.substring(0, 40) + "..." : text;
+		}
+	}
+}
@@ -0,0 +1,237 @@
+package main;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+
+import javax.media.opengl.GL;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+/**
+ * Grava um {@link World} como SVG, escrevendo os elementos  medida que a
+ * rvore de objetos  percorrida, sem montar o documento em memria.
+ * <p>
+ * Cada {@link GraphicObject} vira um <code>&lt;g&gt;</code> com a sua
+ * transformao em <code>matrix(...)</code> e com a cor, a espessura e a
+ * regra de preenchimento do objeto, que so herdadas pela forma. Os vrtices
+ * do objeto vm primeiro dentro do grupo, como <code>&lt;polygon&gt;</code>
+ * para <code>GL_LINE_LOOP</code> ou <code>&lt;polyline&gt;</code> para as
+ * demais primitivas, e depois os grupos dos filhos. Primitivas diferentes de
+ * <code>GL_LINE_STRIP</code> e <code>GL_LINE_LOOP</code> so guardadas no
+ * atributo {@value #PRIMITIVE_ATTRIBUTE} para que o {@link SvgReader}
+ * recupere o objeto original.
+ * <p>
+ * O SVG tem o eixo Y para baixo, por isso todos os objetos ficam dentro de um
+ * grupo com <code>id</code> {@value #WORLD_ID} que inverte o eixo Y.
+ */
+public class SvgWriter {
+
+	static final String NAMESPACE = "http://www.w3.org/2000/svg";
+	static final String WORLD_ID = "cg-n3-world";
+	static final String PRIMITIVE_ATTRIBUTE = "data-primitive";
+
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	/* Reaproveitado para montar os atributos longos, como os pontos */
+	private final StringBuilder text = new StringBuilder();
+	private XMLStreamWriter xml;
+
+	/**
+	 * Grava todos os objetos do mundo, substituindo o arquivo se ele existir.
+	 *
+	 * @param world
+	 *            mundo a ser gravado.
+	 * @param path
+	 *            arquivo de destino.
+	 * @throws IOException
+	 *             se no for possvel gravar o arquivo.
+	 */
+	public void write(final World world, final Path path) throws IOException {
+		try (OutputStream output = new BufferedOutputStream(Files.newOutputStream(path), BUFFER_SIZE)) {
+			write(world, output);
+		}
+	}
+
+	/**
+	 * Grava todos os objetos do mundo.
+	 *
+	 * @param world
+	 *            mundo a ser gravado.
+	 * @param output
+	 *            destino do documento; no  fechado.
+	 * @throws IOException
+	 *             se no for possvel gravar o documento.
+	 */
+	public void write(final World world, final OutputStream output) throws IOException {
+		try {
+			xml = XMLOutputFactory.newInstance().createXMLStreamWriter(output, "UTF-8");
+			xml.writeStartDocument("UTF-8", "1.0");
+			xml.writeStartElement("svg");
+			xml.writeDefaultNamespace(NAMESPACE);
+			xml.writeAttribute("version", "1.1");
+			writeViewBox(world.getObjects());
+
+			xml.writeStartElement("g");
+			xml.writeAttribute("id", WORLD_ID);
+			xml.writeAttribute("transform", "scale(1 -1)");
+			writeObjects(world.getObjects());
+			xml.writeEndElement();
+
+			xml.writeEndElement();
+			xml.writeEndDocument();
+			xml.flush();
+			xml.close();
+		} catch (XMLStreamException e) {
+			throw new IOException("No foi possvel gravar o SVG", e);
+		} finally {
+			xml = null;
+		}
+		output.flush();
+	}
+
+	/**
+	 * rea ocupada pelos objetos, j com o eixo Y invertido.
+	 */
+	private void writeViewBox(final List<GraphicObject> roots) throws XMLStreamException {
+		int minX = Integer.MAX_VALUE;
+		int minY = Integer.MAX_VALUE;
+		int maxX = Integer.MIN_VALUE;
+		int maxY = Integer.MIN_VALUE;
+		for (GraphicObject root : roots) {
+			final BBox bbox = root.getSubtreeBBox();
+			if (bbox != null) {
+				minX = Math.min(minX, bbox.getMinX());
+				minY = Math.min(minY, bbox.getMinY());
+				maxX = Math.max(maxX, bbox.getMaxX());
+				maxY = Math.max(maxY, bbox.getMaxY());
+			}
+		}
+		if (minX > maxX) {
+			return;
+		}
+		text.setLength(0);
+		text.append(minX).append(' ').append(-(long) maxY).append(' ').append(Math.max(1L, (long) maxX - minX))
+				.append(' ').append(Math.max(1L, (long) maxY - minY));
+		xml.writeAttribute("viewBox", text.toString());
+	}
+
+	/**
+	 * Percorre a rvore sem recurso: cada nvel da pilha  o iterador dos
+	 * filhos de um objeto cujo grupo ainda est aberto.
+	 */
+	private void writeObjects(final List<GraphicObject> roots) throws XMLStreamException {
+		final Deque<Iterator<GraphicObject>> pending = new ArrayDeque<>();
+		pending.push(roots.iterator());
+		while (!pending.isEmpty()) {
+			final Iterator<GraphicObject> iterator = pending.peek();
+			if (iterator.hasNext()) {
+				final GraphicObject object = iterator.next();
+				writeObjectStart(object);
+				pending.push(object.getGrapicObjects().iterator());
+			} else {
+				pending.pop();
+				if (!pending.isEmpty()) {
+					xml.writeEndElement();
+				}
+			}
+		}
+	}
+
+	private void writeObjectStart(final GraphicObject object) throws XMLStreamException {
+		xml.writeStartElement("g");
+		final double[] m = object.transform.getDate();
+		if (!isIdentity(m)) {
+			text.setLength(0);
+			text.append("matrix(");
+			appendNumber(m[0]).append(' ');
+			appendNumber(m[1]).append(' ');
+			appendNumber(m[4]).append(' ');
+			appendNumber(m[5]).append(' ');
+			appendNumber(m[12]).append(' ');
+			appendNumber(m[13]).append(')');
+			xml.writeAttribute("transform", text.toString());
+		}
+
+		/* Herdados pela forma dentro do grupo */
+		final float[] color = object.getColor();
+		final int rgb = (channel(color[0]) << 16) | (channel(color[1]) << 8) | channel(color[2]);
+		text.setLength(0);
+		text.append('#');
+		for (int shift = 20; shift >= 0; shift -= 4) {
+			text.append(Character.forDigit((rgb >> shift) & 0xF, 16));
+		}
+		xml.writeAttribute("stroke", text.toString());
+		xml.writeAttribute("stroke-width", Float.toString(object.getLineWidth()));
+		xml.writeAttribute("fill", "none");
+		xml.writeAttribute("fill-rule", object.getFillRule() == FillRule.NON_ZERO ? "nonzero" : "evenodd");
+
+		if (object.getVertexCount() > 0) {
+			writeShape(object);
+		} else if (object.getPrimitive() != GL.GL_LINE_STRIP) {
+			xml.writeAttribute(PRIMITIVE_ATTRIBUTE, primitiveName(object.getPrimitive()));
+		}
+	}
+
+	private void writeShape(final GraphicObject object) throws XMLStreamException {
+		final int primitive = object.getPrimitive();
+		xml.writeEmptyElement(primitive == GL.GL_LINE_LOOP ? "polygon" : "polyline");
+
+		final VertexArray vertices = object.vertexArray();
+		text.setLength(0);
+		for (int i = 0; i < vertices.size(); i++) {
+			if (i > 0) {
+				text.append(' ');
+			}
+			text.append(vertices.getX(i)).append(',').append(vertices.getY(i));
+		}
+		xml.writeAttribute("points", text.toString());
+		/* A espessura do OpenGL  em pixels, independente da transformao */
+		xml.writeAttribute("vector-effect", "non-scaling-stroke");
+		if (primitive != GL.GL_LINE_LOOP && primitive != GL.GL_LINE_STRIP) {
+			xml.writeAttribute(PRIMITIVE_ATTRIBUTE, primitiveName(primitive));
+		}
+	}
+
+	private StringBuilder appendNumber(final double value) {
+		if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+			return text.append((long) value);
+		}
+		return text.append(value);
+	}
+
+	private static boolean isIdentity(final double[] m) {
+		for (int i = 0; i < m.length; i++) {
+			if (m[i] != (i % 5 == 0 ? 1 : 0)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	static String primitiveName(final int primitive) {
+		switch (primitive) {
+		case GL.GL_POINTS:
+			return "points";
+		case GL.GL_LINES:
+			return "lines";
+		case GL.GL_LINE_STRIP:
+			return "line-strip";
+		case GL.GL_LINE_LOOP:
+			return "line-loop";
+		default:
+			return Integer.toString(primitive);
+		}
+	}
+
+	private static int channel(final float value) {
+		return Math.round(Math.max(0f, Math.min(1f, value)) * 255f);
+	}
+}
@@ -10,6 +10,12 @@ public class Transform {
 			0, 0, 1, 0,
 			0, 0, 0, 1};
 
+	/** Matriz auxiliar para multiplicaes no prprio objeto. */
+	private double[] scratch;
+	/** Inversa em cache, vlida enquanto a matriz no mudar. */
+	private Transform inverse;
+	private boolean inverseValid;
+
 	/**
 	 * Atribu uma matriz identidade para esta transformao
 	 */
@@ -18,6 +24,15 @@ public class Transform {
 			matriz[i] = 0.0;
 		}
 		matriz[0] = matriz[5] = matriz[10] = matriz[15] = 1.0;
+		changed();
+	}
+
+	/**
+	 * Indica que a matriz foi alterada, descartando a inversa em cache. Deve
+	 * ser chamado por quem altera diretamente o vetor de {@link #getDate()}.
+	 */
+	void changed() {
+		inverseValid = false;
 	}
 
 	/**
@@ -92,14 +107,121 @@ public class Transform {
 	    matriz[5] =  Math.cos(radians);
 	}
 
+	/**
+	 * Soma uma translao antes desta transformao
+	 * (<code>this = T * this</code>), sem alocar uma nova matriz.
+	 * 
+	 * @param tx translao em X
+	 * @param ty translao em Y
+	 */
+	public void preTranslate(double tx, double ty) {
+		for (int col = 0; col < 16; col += 4) {
+			final double w = matriz[col + 3];
+			matriz[col] += tx * w;
+			matriz[col + 1] += ty * w;
+		}
+		changed();
+	}
+
+	/**
+	 * Obtm uma cpia da inversa desta transformao.
+	 * 
+	 * @return nova {@link Transform} com a inversa
+	 */
 	public Transform getInverseMatriz() {
 		Transform result = new Transform();
-		result.setData(matriz);
-		result.matriz[12] *= -1;
-	    result.matriz[13] *= -1;
-	    result.matriz[14] *= -1;
+		result.setData(getInverse().matriz);
 		return result;
 	}
+
+	/**
+	 * Grava a inversa desta transformao em outra, sem alocar uma nova
+	 * matriz.
+	 * <p>
+	 * A matriz  tratada como afim (ltima linha 0, 0, 0, 1): a inversa 
+	 * formada pela inversa da parte 3x3 e pela translao
+	 * <code>-A<sup>-1</sup>t</code>. Uma matriz singular resulta na
+	 * identidade.
+	 * 
+	 * @param dest transformao que recebe a inversa
+	 */
+	public void getInverseInto(Transform dest) {
+		final double[] m = matriz;
+		// Cofatores da parte 3x3, j transpostos
+		final double c00 = m[5] * m[10] - m[9] * m[6];
+		final double c01 = m[8] * m[6] - m[4] * m[10];
+		final double c02 = m[4] * m[9] - m[8] * m[5];
+		final double c10 = m[9] * m[2] - m[1] * m[10];
+		final double c11 = m[0] * m[10] - m[8] * m[2];
+		final double c12 = m[8] * m[1] - m[0] * m[9];
+		final double c20 = m[1] * m[6] - m[5] * m[2];
+		final double c21 = m[4] * m[2] - m[0] * m[6];
+		final double c22 = m[0] * m[5] - m[4] * m[1];
+		final double det = m[0] * c00 + m[4] * c10 + m[8] * c20;
+		if (det == 0) {
+			dest.setIdentity();
+			return;
+		}
+		final double invDet = 1.0 / det;
+		final double tx = m[12];
+		final double ty = m[13];
+		final double tz = m[14];
+
+		final double[] r = dest.matriz;
+		r[0] = c00 * invDet;
+		r[1] = c10 * invDet;
+		r[2] = c20 * invDet;
+		r[3] = 0;
+		r[4] = c01 * invDet;
+		r[5] = c11 * invDet;
+		r[6] = c21 * invDet;
+		r[7] = 0;
+		r[8] = c02 * invDet;
+		r[9] = c12 * invDet;
+		r[10] = c22 * invDet;
+		r[11] = 0;
+		r[12] = -(r[0] * tx + r[4] * ty + r[8] * tz);
+		r[13] = -(r[1] * tx + r[5] * ty + r[9] * tz);
+		r[14] = -(r[2] * tx + r[6] * ty + r[10] * tz);
+		r[15] = 1;
+		dest.changed();
+	}
+
+	/**
+	 * Obtm a inversa em cache, recalculando-a apenas se a matriz mudou.
+	 */
+	private Transform getInverse() {
+		if (inverse == null) {
+			inverse = new Transform();
+		}
+		if (!inverseValid) {
+			getInverseInto(inverse);
+			inverseValid = true;
+		}
+		return inverse;
+	}
+
+	/**
+	 * Aplica a inversa desta transformao em um ponto, sem alocar a matriz
+	 * inversa.
+	 * 
+	 * @param point ponto a ser transformado
+	 * @return ponto transformado
+	 */
+	public Point4D inverseTransformPoint(Point4D point) {
+		return getInverse().transformPoint(point);
+	}
+
+	/**
+	 * Aplica a inversa desta transformao em um ponto 2D, sem alocar objetos.
+	 * 
+	 * @param x X do ponto
+	 * @param y Y do ponto
+	 * @param out recebe X e Y transformados nas posies 0 e 1
+	 */
+	public void inverseTransformPoint(int x, int y, int[] out) {
+		getInverse().transformPoint(x, y, out);
+	}
 	
 	public Point4D transformPoint(Point4D point) {
 		Point4D pointResult = new Point4D(
@@ -110,14 +232,64 @@ public class Transform {
 		return pointResult;
 	}
 
+	/**
+	 * Aplica esta transformao em um ponto 2D (Z = 0 e W = 1), sem alocar
+	 * objetos.
+	 * 
+	 * @param x X do ponto
+	 * @param y Y do ponto
+	 * @param out recebe X e Y transformados nas posies 0 e 1
+	 */
+	public void transformPoint(double x, double y, double[] out) {
+		out[0] = matriz[0]*x + matriz[4]*y + matriz[12];
+		out[1] = matriz[1]*x + matriz[5]*y + matriz[13];
+	}
+
+	/**
+	 * Aplica esta transformao em um ponto 2D (Z = 0 e W = 1), truncando o
+	 * resultado como {@link #transformPoint(Point4D)}, sem alocar objetos.
+	 * 
+	 * @param x X do ponto
+	 * @param y Y do ponto
+	 * @param out recebe X e Y transformados nas posies 0 e 1
+	 */
+	public void transformPoint(int x, int y, int[] out) {
+		out[0] = (int) (matriz[0]*x + matriz[4]*y + matriz[12]);
+		out[1] = (int) (matriz[1]*x + matriz[5]*y + matriz[13]);
+	}
+
 	public Transform transformMatrix(Transform t) {
 		Transform result = new Transform();
-	    for (int i=0; i < 16; ++i)
-        result.matriz[i] =
-              matriz[i%4]    *t.matriz[i/4*4]  +matriz[(i%4)+4] *t.matriz[i/4*4+1]
-            + matriz[(i%4)+8]*t.matriz[i/4*4+2]+matriz[(i%4)+12]*t.matriz[i/4*4+3];
+		result.multiply(this, t);
 	    return result;
 	}
+
+	/**
+	 * Grava nesta transformao o produto <code>a * b</code>, sem alocar uma
+	 * nova matriz. Esta transformao pode ser a prpria <code>a</code> ou
+	 * <code>b</code>.
+	 * 
+	 * @param a matriz da esquerda
+	 * @param b matriz da direita
+	 */
+	public void multiply(Transform a, Transform b) {
+		final double[] result = (this == a || this == b) ? scratch() : matriz;
+	    for (int i=0; i < 16; ++i)
+        result[i] =
+              a.matriz[i%4]    *b.matriz[i/4*4]  +a.matriz[(i%4)+4] *b.matriz[i/4*4+1]
+            + a.matriz[(i%4)+8]*b.matriz[i/4*4+2]+a.matriz[(i%4)+12]*b.matriz[i/4*4+3];
+	    if (result != matriz) {
+	    	System.arraycopy(result, 0, matriz, 0, 16);
+	    }
+	    changed();
+	}
+
+	private double[] scratch() {
+		if (scratch == null) {
+			scratch = new double[16];
+		}
+		return scratch;
+	}
 	
 	public double getElement(int index) {
 		return matriz[index];
@@ -125,8 +297,15 @@ public class Transform {
 	
 	public void setElement(int index, double value) {
 		matriz[index] = value;
+		changed();
 	}
 
+	/**
+	 * Obtm o vetor da matriz, em ordem de colunas como o OpenGL espera. Quem
+	 * alterar o vetor diretamente deve chamar {@link #changed()} em seguida.
+	 * 
+	 * @return vetor com os 16 elementos da matriz
+	 */
 	public double[] getDate() {
 		return matriz;	
 	}
@@ -139,6 +318,7 @@ public class Transform {
 	    {
 	        matriz[i] = (data[i]);
 	    }
+	    changed();
 	}
 
 	public void exibeMatriz() {
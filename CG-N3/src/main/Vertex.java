@@ -4,19 +4,35 @@ import main.opengl.utils.ColorUtils;
 
 public class Vertex {
 
-	private static final int VERTEX_BBOX_SIZE = 10;
+	/** Distncia, em cada eixo, da borda da rea de seleo at o vrtice. */
+	public static final int VERTEX_BBOX_SIZE = 10;
 	private static final float[] VERTEX_BBOX_COLOR = ColorUtils.PUMPKIN_ORANGE.clone();
 
 	private final Point4D point;
-	private final BBox bbox;
+	private final Transform transform;
 
 	public Vertex(Point4D point, Transform transform) {
 		this.point = point;
-		int minX = point.getX() - VERTEX_BBOX_SIZE;
-		int minY = point.getY() - VERTEX_BBOX_SIZE;
-		int maxX = point.getX() + VERTEX_BBOX_SIZE;
-		int maxY = point.getY() + VERTEX_BBOX_SIZE;
-		this.bbox = new BBox(minX, minY, maxX, maxY, VERTEX_BBOX_COLOR, transform);
+		this.transform = transform;
+	}
+
+	/**
+	 * Verifica se um ponto est dentro da rea de seleo de um vrtice, sem
+	 * precisar criar o vrtice ou a sua {@link BBox}.
+	 *
+	 * @param x
+	 *            coordenada X do vrtice.
+	 * @param y
+	 *            coordenada Y do vrtice.
+	 * @param pointX
+	 *            coordenada X do ponto a ser verificado.
+	 * @param pointY
+	 *            coordenada Y do ponto a ser verificado.
+	 * @return <code>true</code> se o ponto est na rea de seleo,
+	 *         <code>false</code> de outra maneira.
+	 */
+	public static boolean handleContains(int x, int y, int pointX, int pointY) {
+		return Math.abs(pointX - x) <= VERTEX_BBOX_SIZE && Math.abs(pointY - y) <= VERTEX_BBOX_SIZE;
 	}
 
 	public Point4D getPoint() {
@@ -24,11 +40,15 @@ public class Vertex {
 	}
 
 	public BBox bbox() {
-		return bbox;
+		int minX = point.getX() - VERTEX_BBOX_SIZE;
+		int minY = point.getY() - VERTEX_BBOX_SIZE;
+		int maxX = point.getX() + VERTEX_BBOX_SIZE;
+		int maxY = point.getY() + VERTEX_BBOX_SIZE;
+		return new BBox(minX, minY, maxX, maxY, VERTEX_BBOX_COLOR, transform);
 	}
 
 	public boolean contains(Point4D point) {
-		return bbox.contains(point);
+		return handleContains(getX(), getY(), point.getX(), point.getY());
 	}
 
 	public int getX() {
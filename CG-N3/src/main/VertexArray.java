@@ -0,0 +1,155 @@
+package main;
+
+import java.nio.IntBuffer;
+import java.util.Arrays;
+
+/**
+ * Lista de vrtices armazenada em um nico vetor de inteiros, com as
+ * coordenadas X e Y de cada vrtice em posies consecutivas.
+ * <p>
+ * Ocupa 8 bytes por vrtice e permite acesso direto a qualquer posio, ao
+ * contrrio de uma lista encadeada de {@link Vertex}.
+ * <p>
+ * Os vrtices tambm podem vir de um {@link IntBuffer}, por exemplo de um
+ * arquivo mapeado em memria; nesse caso eles s so copiados para o vetor
+ * no primeiro acesso.
+ */
+public class VertexArray {
+
+	private static final int INITIAL_CAPACITY = 8;
+
+	private int[] coords = new int[INITIAL_CAPACITY * 2];
+	private int size;
+	/** Vrtices ainda no copiados para coords. */
+	private IntBuffer source;
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public int getX(final int index) {
+		if (source != null) {
+			load();
+		}
+		return coords[index * 2];
+	}
+
+	public int getY(final int index) {
+		if (source != null) {
+			load();
+		}
+		return coords[index * 2 + 1];
+	}
+
+	/**
+	 * Substitui os vrtices pelos de um buffer, que s  lido no primeiro
+	 * acesso a um vrtice.
+	 *
+	 * @param source
+	 *            buffer com as coordenadas X e Y intercaladas, a partir da
+	 *            posio atual.
+	 * @param size
+	 *            quantidade de vrtices no buffer.
+	 */
+	void setSource(final IntBuffer source, final int size) {
+		this.source = source;
+		this.size = size;
+	}
+
+	private void load() {
+		final int[] loaded = new int[Math.max(size, INITIAL_CAPACITY) * 2];
+		source.duplicate().get(loaded, 0, size * 2);
+		coords = loaded;
+		source = null;
+	}
+
+	/**
+	 * Adiciona um vrtice no final da lista.
+	 *
+	 * @param x
+	 *            coordenada X.
+	 * @param y
+	 *            coordenada Y.
+	 */
+	public void add(final int x, final int y) {
+		if (source != null) {
+			load();
+		}
+		if (size * 2 == coords.length) {
+			coords = Arrays.copyOf(coords, coords.length * 2);
+		}
+		coords[size * 2] = x;
+		coords[size * 2 + 1] = y;
+		size++;
+	}
+
+	/**
+	 * Insere um vrtice, deslocando os seguintes uma posio para frente.
+	 *
+	 * @param index
+	 *            posio do novo vrtice, de 0 at {@link #size()}.
+	 * @param x
+	 *            coordenada X.
+	 * @param y
+	 *            coordenada Y.
+	 */
+	public void insert(final int index, final int x, final int y) {
+		if (source != null) {
+			load();
+		}
+		if (size * 2 == coords.length) {
+			coords = Arrays.copyOf(coords, coords.length * 2);
+		}
+		System.arraycopy(coords, index * 2, coords, (index + 1) * 2, (size - index) * 2);
+		coords[index * 2] = x;
+		coords[index * 2 + 1] = y;
+		size++;
+	}
+
+	/**
+	 * Altera as coordenadas de um vrtice.
+	 *
+	 * @param index
+	 *            posio do vrtice.
+	 * @param x
+	 *            nova coordenada X.
+	 * @param y
+	 *            nova coordenada Y.
+	 */
+	public void set(final int index, final int x, final int y) {
+		if (source != null) {
+			load();
+		}
+		coords[index * 2] = x;
+		coords[index * 2 + 1] = y;
+	}
+
+	/**
+	 * Remove um vrtice, deslocando os seguintes uma posio para trs.
+	 *
+	 * @param index
+	 *            posio do vrtice.
+	 */
+	public void remove(final int index) {
+		if (source != null) {
+			load();
+		}
+		final int tail = (size - index - 1) * 2;
+		if (tail > 0) {
+			System.arraycopy(coords, (index + 1) * 2, coords, index * 2, tail);
+		}
+		size--;
+	}
+
+	/**
+	 * Remove todos os vrtices.
+	 */
+	public void clear() {
+		source = null;
+		size = 0;
+	}
+}
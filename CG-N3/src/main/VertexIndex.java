@@ -0,0 +1,393 @@
+package main;
+
+import java.util.Arrays;
+
+/**
+ * ndice espacial dos vrtices de um objeto, para encontrar o vrtice sob o
+ * mouse e os vrtices mais prximos de um ponto sem percorrer todos os
+ * vrtices.
+ * <p>
+ * O espao local  dividido em clulas quadradas com lado potncia de dois,
+ * escolhido na construo e nunca menor que {@value #MIN_CELL_SIZE}
+ * unidades. O lado  o menor entre o comprimento mdio das arestas, que
+ * deixa poucos vrtices por clula em contornos, onde os vrtices ficam ao
+ * longo de uma linha, e o lado que daria em mdia um vrtice por clula se os
+ * vrtices se espalhassem por toda a rea. Cada clula  espalhada
+ * em uma tabela de listas encadeadas, guardadas em vetores indexados pelo
+ * vrtice; clulas diferentes podem cair na mesma lista, por isso as
+ * consultas conferem a clula de cada vrtice.
+ * <p>
+ * Mover um vrtice ou adicionar um vrtice no final atualiza o ndice na
+ * hora. Inserir ou remover no meio muda os ndices dos vrtices seguintes,
+ * por isso marca o ndice para ser reconstrudo na prxima consulta.
+ */
+public class VertexIndex {
+
+	/** Prximo da rea de seleo de um vrtice, para a busca sob o mouse. */
+	private static final int MIN_CELL_SIZE = 8;
+	private static final int MIN_CELL_SHIFT = Integer.numberOfTrailingZeros(MIN_CELL_SIZE);
+	private static final int NONE = -1;
+
+	private int cellShift = MIN_CELL_SHIFT;
+	/** Primeiro vrtice de cada lista da tabela. */
+	private int[] heads = new int[0];
+	private int[] next = new int[0];
+	private int[] previous = new int[0];
+	/** Lista da tabela em que cada vrtice est. */
+	private int[] slots = new int[0];
+	private int size;
+	/* Clulas ocupadas, somente aumentam at a prxima construo */
+	private int minCellX;
+	private int minCellY;
+	private int maxCellX;
+	private int maxCellY;
+	private boolean dirty = true;
+	/* Auxiliares da busca dos mais prximos */
+	private long[] heapDistances = new long[0];
+	private int[] heapIndexes = new int[0];
+	private int heapSize;
+
+	/**
+	 * Marca o ndice para ser reconstrudo antes da prxima consulta.
+	 */
+	public void invalidate() {
+		dirty = true;
+	}
+
+	public boolean isDirty() {
+		return dirty;
+	}
+
+	/**
+	 * Reconstri o ndice com todos os vrtices.
+	 *
+	 * @param vertices
+	 *            vrtices do objeto.
+	 */
+	public void build(final VertexArray vertices) {
+		dirty = false;
+		size = vertices.size();
+		int minX = Integer.MAX_VALUE;
+		int minY = Integer.MAX_VALUE;
+		int maxX = Integer.MIN_VALUE;
+		int maxY = Integer.MIN_VALUE;
+		double perimeter = 0;
+		for (int i = 0; i < size; i++) {
+			final int x = vertices.getX(i);
+			final int y = vertices.getY(i);
+			minX = Math.min(minX, x);
+			minY = Math.min(minY, y);
+			maxX = Math.max(maxX, x);
+			maxY = Math.max(maxY, y);
+			if (i > 0) {
+				perimeter += Math.hypot((double) x - vertices.getX(i - 1), (double) y - vertices.getY(i - 1));
+			}
+		}
+		cellShift = MIN_CELL_SHIFT;
+		if (size > 1) {
+			final double extent = Math.max((double) maxX - minX, (double) maxY - minY);
+			final double cellSize = Math.min(extent / Math.sqrt(size), perimeter / (size - 1));
+			while (cellShift < 30 && (1 << cellShift) < cellSize) {
+				cellShift++;
+			}
+		}
+
+		final int capacity = Math.max(16, Integer.highestOneBit(Math.max(1, size)) * 4);
+		if (heads.length != capacity) {
+			heads = new int[capacity];
+		}
+		Arrays.fill(heads, NONE);
+		if (next.length < capacity) {
+			next = new int[capacity];
+			previous = new int[capacity];
+			slots = new int[capacity];
+		}
+		minCellX = Integer.MAX_VALUE;
+		minCellY = Integer.MAX_VALUE;
+		maxCellX = Integer.MIN_VALUE;
+		maxCellY = Integer.MIN_VALUE;
+		for (int i = 0; i < size; i++) {
+			link(i, vertices.getX(i), vertices.getY(i));
+		}
+	}
+
+	/**
+	 * @return lado das clulas, em unidades do espao local.
+	 */
+	int getCellSize() {
+		return 1 << cellShift;
+	}
+
+	/**
+	 * Adiciona um vrtice no final.
+	 *
+	 * @param index
+	 *            ndice do vrtice, igual  quantidade de vrtices antes dele.
+	 * @param x
+	 *            coordenada X local.
+	 * @param y
+	 *            coordenada Y local.
+	 */
+	public void add(final int index, final int x, final int y) {
+		if (dirty) {
+			return;
+		}
+		/* A tabela cheia  refeita com mais listas e clulas do novo tamanho */
+		if (index != size || size >= heads.length || size >= next.length) {
+			dirty = true;
+			return;
+		}
+		size++;
+		link(index, x, y);
+	}
+
+	/**
+	 * Remove o ltimo vrtice.
+	 */
+	public void removeLast() {
+		if (dirty || size == 0) {
+			dirty = true;
+			return;
+		}
+		size--;
+		unlink(size);
+	}
+
+	/**
+	 * Atualiza a posio de um vrtice.
+	 *
+	 * @param index
+	 *            ndice do vrtice.
+	 * @param x
+	 *            nova coordenada X local.
+	 * @param y
+	 *            nova coordenada Y local.
+	 */
+	public void move(final int index, final int x, final int y) {
+		if (dirty) {
+			return;
+		}
+		unlink(index);
+		link(index, x, y);
+	}
+
+	/**
+	 * Procura o vrtice com o menor ndice cuja distncia a um ponto, em cada
+	 * eixo, no passa de um raio.
+	 *
+	 * @param vertices
+	 *            vrtices do objeto.
+	 * @param x
+	 *            coordenada X local.
+	 * @param y
+	 *            coordenada Y local.
+	 * @param radius
+	 *            distncia mxima em cada eixo.
+	 * @return ndice do vrtice, ou <code>-1</code> se nenhum est perto.
+	 */
+	public int find(final VertexArray vertices, final int x, final int y, final int radius) {
+		int found = NONE;
+		final int fromX = (x - radius) >> cellShift;
+		final int toX = (x + radius) >> cellShift;
+		final int fromY = (y - radius) >> cellShift;
+		final int toY = (y + radius) >> cellShift;
+		for (int cellX = fromX; cellX <= toX; cellX++) {
+			for (int cellY = fromY; cellY <= toY; cellY++) {
+				for (int i = heads[slot(cellX, cellY)]; i != NONE; i = next[i]) {
+					if ((found == NONE || i < found) && Math.abs(vertices.getX(i) - x) <= radius
+							&& Math.abs(vertices.getY(i) - y) <= radius) {
+						found = i;
+					}
+				}
+			}
+		}
+		return found;
+	}
+
+	/**
+	 * Procura os vrtices mais prximos de um ponto. As clulas so
+	 * percorridas em anis ao redor do ponto, at que nenhum anel possa ter um
+	 * vrtice mais prximo que os j encontrados.
+	 *
+	 * @param vertices
+	 *            vrtices do objeto.
+	 * @param x
+	 *            coordenada X local.
+	 * @param y
+	 *            coordenada Y local.
+	 * @param maxDistance
+	 *            distncia mxima dos vrtices ao ponto.
+	 * @param excluded
+	 *            vrtice que no deve ser retornado, ou <code>-1</code>.
+	 * @param result
+	 *            recebe os ndices, do mais prximo ao mais distante; o
+	 *            tamanho do vetor  a quantidade de vrtices procurados.
+	 * @return quantidade de vrtices encontrados.
+	 */
+	public int nearest(final VertexArray vertices, final int x, final int y, final long maxDistance,
+			final int excluded, final int[] result) {
+		final int k = result.length;
+		if (k == 0 || size == 0) {
+			return 0;
+		}
+		if (heapDistances.length < k) {
+			heapDistances = new long[k];
+			heapIndexes = new int[k];
+		}
+		heapSize = 0;
+		final long maxDistanceSquared = maxDistance >= Integer.MAX_VALUE ? Long.MAX_VALUE
+				: maxDistance * maxDistance;
+		final int cellSize = 1 << cellShift;
+		final int cellX = x >> cellShift;
+		final int cellY = y >> cellShift;
+		final int firstRing = Math.max(0, Math.max(Math.max(minCellX - cellX, cellX - maxCellX),
+				Math.max(minCellY - cellY, cellY - maxCellY)));
+		final int lastRing = Math.max(Math.max(cellX - minCellX, maxCellX - cellX),
+				Math.max(cellY - minCellY, maxCellY - cellY));
+
+		for (int ring = firstRing; ring <= lastRing; ring++) {
+			/* Nenhuma clula do anel fica a menos que isso do ponto */
+			final long gap = (long) Math.max(0, ring - 1) * cellSize;
+			final long gapSquared = gap * gap;
+			if (gapSquared > maxDistanceSquared || (heapSize == k && gapSquared > heapDistances[0])) {
+				break;
+			}
+			if (ring == 0) {
+				visitCell(vertices, cellX, cellY, x, y, maxDistanceSquared, excluded, k);
+				continue;
+			}
+			final int fromX = Math.max(cellX - ring, minCellX);
+			final int toX = Math.min(cellX + ring, maxCellX);
+			final int fromY = Math.max(cellY - ring + 1, minCellY);
+			final int toY = Math.min(cellY + ring - 1, maxCellY);
+			for (int cx = fromX; cx <= toX; cx++) {
+				visitCell(vertices, cx, cellY - ring, x, y, maxDistanceSquared, excluded, k);
+				visitCell(vertices, cx, cellY + ring, x, y, maxDistanceSquared, excluded, k);
+			}
+			for (int cy = fromY; cy <= toY; cy++) {
+				visitCell(vertices, cellX - ring, cy, x, y, maxDistanceSquared, excluded, k);
+				visitCell(vertices, cellX + ring, cy, x, y, maxDistanceSquared, excluded, k);
+			}
+		}
+
+		/* Retira do heap do mais distante ao mais prximo */
+		final int count = heapSize;
+		for (int i = count - 1; i >= 0; i--) {
+			result[i] = heapIndexes[0];
+			removeFarthest();
+		}
+		return count;
+	}
+
+	private void visitCell(final VertexArray vertices, final int cellX, final int cellY, final int x, final int y,
+			final long maxDistanceSquared, final int excluded, final int k) {
+		if (cellY < minCellY || cellY > maxCellY || cellX < minCellX || cellX > maxCellX) {
+			return;
+		}
+		for (int i = heads[slot(cellX, cellY)]; i != NONE; i = next[i]) {
+			final int vx = vertices.getX(i);
+			final int vy = vertices.getY(i);
+			if (i == excluded || (vx >> cellShift) != cellX || (vy >> cellShift) != cellY) {
+				continue;
+			}
+			final long dx = (long) vx - x;
+			final long dy = (long) vy - y;
+			final long distance = dx * dx + dy * dy;
+			if (distance > maxDistanceSquared) {
+				continue;
+			}
+			if (heapSize < k) {
+				addToHeap(distance, i);
+			} else if (isCloser(distance, i, heapDistances[0], heapIndexes[0])) {
+				removeFarthest();
+				addToHeap(distance, i);
+			}
+		}
+	}
+
+	/** Empates na distncia so decididos pelo menor ndice. */
+	private static boolean isCloser(final long distance, final int index, final long otherDistance,
+			final int otherIndex) {
+		return distance < otherDistance || (distance == otherDistance && index < otherIndex);
+	}
+
+	/**
+	 * Heap de mximo: o vrtice mais distante dos encontrados fica na raiz.
+	 */
+	private void addToHeap(final long distance, final int index) {
+		int child = heapSize++;
+		while (child > 0) {
+			final int parent = (child - 1) / 2;
+			if (!isCloser(heapDistances[parent], heapIndexes[parent], distance, index)) {
+				break;
+			}
+			heapDistances[child] = heapDistances[parent];
+			heapIndexes[child] = heapIndexes[parent];
+			child = parent;
+		}
+		heapDistances[child] = distance;
+		heapIndexes[child] = index;
+	}
+
+	private void removeFarthest() {
+		final int last = --heapSize;
+		final long distance = heapDistances[last];
+		final int index = heapIndexes[last];
+		int parent = 0;
+		while (true) {
+			int child = parent * 2 + 1;
+			if (child >= last) {
+				break;
+			}
+			if (child + 1 < last && isCloser(heapDistances[child], heapIndexes[child], heapDistances[child + 1],
+					heapIndexes[child + 1])) {
+				child++;
+			}
+			if (!isCloser(distance, index, heapDistances[child], heapIndexes[child])) {
+				break;
+			}
+			heapDistances[parent] = heapDistances[child];
+			heapIndexes[parent] = heapIndexes[child];
+			parent = child;
+		}
+		heapDistances[parent] = distance;
+		heapIndexes[parent] = index;
+	}
+
+	private void link(final int index, final int x, final int y) {
+		final int cellX = x >> cellShift;
+		final int cellY = y >> cellShift;
+		minCellX = Math.min(minCellX, cellX);
+		minCellY = Math.min(minCellY, cellY);
+		maxCellX = Math.max(maxCellX, cellX);
+		maxCellY = Math.max(maxCellY, cellY);
+		final int slot = slot(cellX, cellY);
+		final int head = heads[slot];
+		slots[index] = slot;
+		previous[index] = NONE;
+		next[index] = head;
+		if (head != NONE) {
+			previous[head] = index;
+		}
+		heads[slot] = index;
+	}
+
+	private void unlink(final int index) {
+		final int before = previous[index];
+		final int after = next[index];
+		if (before != NONE) {
+			next[before] = after;
+		} else {
+			heads[slots[index]] = after;
+		}
+		if (after != NONE) {
+			previous[after] = before;
+		}
+	}
+
+	private int slot(final int cellX, final int cellY) {
+		int hash = cellX * 0x9E3779B1 + cellY * 0x85EBCA77;
+		hash ^= hash >>> 15;
+		return hash & (heads.length - 1);
+	}
+}
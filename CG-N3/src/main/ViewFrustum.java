@@ -0,0 +1,100 @@
+package main;
+
+/**
+ * Janela ortogonal da {@link Camera} usada para descartar, antes do desenho,
+ * os objetos que esto totalmente fora da rea visvel.
+ * <p>
+ * Tambm guarda a escala da cmera, usada para escolher o
+ * {@link LevelOfDetail} de cada objeto, e conta quantos objetos foram
+ * desenhados e quantos foram descartados no ltimo desenho.
+ */
+public class ViewFrustum {
+
+	private float minX;
+	private float maxX;
+	private float minY;
+	private float maxY;
+	private float unitsPerPixel;
+	private int drawnCount;
+	private int culledCount;
+
+	/**
+	 * Ajusta a janela para a posio atual da cmera e zera os contadores.
+	 *
+	 * @param camera
+	 *            cmera que define a rea visvel.
+	 */
+	public void reset(final Camera camera) {
+		minX = Math.min(camera.getAxis(0), camera.getAxis(1));
+		maxX = Math.max(camera.getAxis(0), camera.getAxis(1));
+		minY = Math.min(camera.getAxis(2), camera.getAxis(3));
+		maxY = Math.max(camera.getAxis(2), camera.getAxis(3));
+		unitsPerPixel = camera.getUnitsPerPixel();
+		drawnCount = 0;
+		culledCount = 0;
+	}
+
+	/**
+	 * Copia a janela, a escala e os contadores de outra janela.
+	 */
+	void set(final ViewFrustum other) {
+		minX = other.minX;
+		maxX = other.maxX;
+		minY = other.minY;
+		maxY = other.maxY;
+		unitsPerPixel = other.unitsPerPixel;
+		drawnCount = other.drawnCount;
+		culledCount = other.culledCount;
+	}
+
+	/**
+	 * @return <code>true</code> se as duas janelas mostram a mesma rea na
+	 *         mesma escala, sem comparar os contadores.
+	 */
+	boolean sameView(final ViewFrustum other) {
+		return minX == other.minX && maxX == other.maxX && minY == other.minY && maxY == other.maxY
+				&& unitsPerPixel == other.unitsPerPixel;
+	}
+
+	/**
+	 * Verifica se um retngulo no espao do mundo tem alguma parte visvel.
+	 *
+	 * @param bounds
+	 *            retngulo no formato { minX, minY, maxX, maxY }.
+	 * @return <code>true</code> se o retngulo intersecta a janela,
+	 *         <code>false</code> de outra maneira.
+	 */
+	public boolean intersects(final int[] bounds) {
+		return bounds[0] <= maxX && bounds[2] >= minX && bounds[1] <= maxY && bounds[3] >= minY;
+	}
+
+	/**
+	 * @return unidades do mundo por pixel, ou zero se a cmera no conhece o
+	 *         seu tamanho em pixels.
+	 */
+	public float getUnitsPerPixel() {
+		return unitsPerPixel;
+	}
+
+	void drawn(final int count) {
+		drawnCount += count;
+	}
+
+	void culled(final int count) {
+		culledCount += count;
+	}
+
+	/**
+	 * @return quantidade de objetos desenhados no ltimo desenho.
+	 */
+	public int getDrawnCount() {
+		return drawnCount;
+	}
+
+	/**
+	 * @return quantidade de objetos descartados no ltimo desenho.
+	 */
+	public int getCulledCount() {
+		return culledCount;
+	}
+}
@@ -1,25 +1,90 @@
 package main;
 
 import java.util.ArrayList;
-import java.util.LinkedList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import javax.media.opengl.GL;
 
 /**
  * Mundo que agrupa objetos grficos.
+ * <p>
+ * Os objetos do mundo pertencem  thread de eventos do AWT, que trata a
+ * entrada e desenha os quadros; somente ela altera o mundo e os seus objetos.
+ * Outras threads, como as de carregamento, montam objetos fora de qualquer
+ * mundo e os entregam com {@link #publish(GraphicObject)}, sem bloquear. Os
+ * objetos entregues entram no mundo todos juntos no incio do prximo desenho
+ * ou consulta, e a partir da passam a pertencer  thread de eventos.
+ * <p>
+ * A lista de objetos raiz  copiada a cada alterao, assim
+ * {@link #getObjects()} pode ser percorrida de qualquer thread sem bloqueio e
+ * sempre v uma verso completa da lista, identificada por
+ * {@link #getVersion()}.
  */
 public class World implements Drawable {
 
+	private static final int DEFAULT_PARALLEL_MIN_OBJECTS = 256;
+	private static final int DEFAULT_PARALLEL_MIN_VERTICES = 50000;
+
 	private final Camera camera = new Camera();
-	private final List<GraphicObject> objects = new LinkedList<>();
+	private final ViewFrustum frustum = new ViewFrustum();
+	private final Transform identity = new Transform();
+	private final List<GraphicObject> objects = new CopyOnWriteArrayList<>();
+	private final List<GraphicObject> objectsView = Collections.unmodifiableList(objects);
+	/** ndice dos objetos raiz pelos limites da rvore de cada um. */
+	private final QuadTree<GraphicObject> index = new QuadTree<>();
+	/** Objetos raiz cuja rvore mudou desde a ltima atualizao do ndice. */
+	private final Set<GraphicObject> dirtyRoots = new HashSet<>();
+	/* Auxiliares de findObjectAt, reaproveitados entre as chamadas */
+	private final List<GraphicObject> candidates = new ArrayList<>();
+	private final List<GraphicObject> hits = new ArrayList<>();
+	private final int[] localPoint = new int[2];
+	/* Cpia dos candidatos testados em paralelo */
+	private GraphicObject[] snapshot = new GraphicObject[16];
+	private int[] snapshotPoints = new int[32];
+	private boolean[] snapshotHits = new boolean[16];
+	private int parallelMinObjects = DEFAULT_PARALLEL_MIN_OBJECTS;
+	private int parallelMinVertices = DEFAULT_PARALLEL_MIN_VERTICES;
+	private static final Comparator<GraphicObject> ROOT_ORDER = Comparator.comparingInt(GraphicObject::getRootOrder);
+	/** Verso da lista de objetos raiz numerada por refreshRootOrder. */
+	private long rootOrderVersion = -1;
 	private GraphicObject currentObject;
+	/** Objetos raiz entregues por outras threads e ainda fora do mundo. */
+	private final Queue<GraphicObject> published = new ConcurrentLinkedQueue<>();
+	private final List<GraphicObject> drained = new ArrayList<>();
+	private volatile Runnable publishListener;
+	private volatile long version;
+	/** Objetos selecionados pelo retngulo, na ordem da cena. */
+	private final List<GraphicObject> selection = new ArrayList<>();
+	private final List<GraphicObject> selectionView = Collections.unmodifiableList(selection);
+	/* Auxiliares de findObjectsIn e transformObjects */
+	private final int[] rangeBounds = new int[4];
+	private final Set<GraphicObject> transformed = new HashSet<>();
+	private final Affine2D localChange = new Affine2D();
+	private final Affine2D parentWorld = new Affine2D();
 
+	/**
+	 * Procura o menor objeto grfico que contm o ponto, incluindo os filhos,
+	 * pelo ndice espacial do mundo.
+	 * 
+	 * @param point
+	 *            ponto no espao do mundo.
+	 * @return menor objeto que contm o ponto, ou <code>null</code> se nenhum
+	 *         objeto o contm.
+	 * @see #findObjectAt(Point4D, Point4D)
+	 */
 	public GraphicObject findObjectAt(final Point4D point) {
-		return objects.stream().filter(o -> o.contains(o.transform.getInverseMatriz().transformPoint(point)))
-				.findFirst().orElse(null);
+		return findObjectAt(point, null);
 	}
 
 	public <Any> List<Any> getRecursive(Any node, Function<Any, List<Any>> get) {
@@ -34,28 +99,389 @@ public class World implements Drawable {
 		return all;
 	}
 
+	/**
+	 * Procura o menor objeto grfico que contm o ponto.
+	 * <p>
+	 * O ndice espacial do mundo fornece os objetos raiz cujos limites contm
+	 * o ponto. A partir deles somente os ramos cujos limites no espao do
+	 * mundo contm o ponto so percorridos. Se os candidatos encontrados
+	 * passarem dos limites de {@link #setParallelPickingThreshold(int, int)}
+	 * eles so testados em paralelo; o resultado  o mesmo do teste
+	 * sequencial.
+	 * 
+	 * @param point
+	 *            ponto no espao do mundo.
+	 * @param endPoint
+	 *            no utilizado.
+	 * @return menor objeto que contm o ponto, ou <code>null</code> se nenhum
+	 *         objeto o contm.
+	 */
 	public GraphicObject findObjectAt(final Point4D point, final Point4D endPoint) {
+		final long start = System.nanoTime();
+		final GraphicObject found = findObjectAt(point.getX(), point.getY());
+		Metrics.getDefault().pick(System.nanoTime() - start);
+		return found;
+	}
 
-		List<GraphicObject> all = new ArrayList<>();
+	private GraphicObject findObjectAt(final int x, final int y) {
+		refreshIndex();
 
-		for (GraphicObject graphicObject : objects) {
-			all.addAll(getRecursive(graphicObject, GraphicObject::getGrapicObjects));
+		final List<GraphicObject> roots = candidates;
+		roots.clear();
+		index.query(x, y, roots);
+		if (roots.size() > 1) {
+			refreshRootOrder();
+			roots.sort(ROOT_ORDER);
+		}
+
+		final List<GraphicObject> all = hits;
+		all.clear();
+		for (int i = 0; i < roots.size(); i++) {
+			roots.get(i).collectCandidatesAt(x, y, all);
+		}
+		roots.clear();
+
+		final int count = all.size();
+		if (count == 0) {
+			return null;
+		}
+		ensureSnapshotCapacity(count);
+		final GraphicObject[] objects = snapshot;
+		final int[] points = snapshotPoints;
+		final boolean[] contained = snapshotHits;
+		long vertexCount = 0;
+		/*
+		 * A converso para o espao local e a preparao do teste preenchem
+		 * caches, por isso so feitas antes e somente o teste do polgono roda
+		 * em paralelo.
+		 */
+		for (int i = 0; i < count; i++) {
+			final GraphicObject o = all.get(i);
+			o.worldToLocal(x, y, localPoint);
+			o.prepareHitTest();
+			objects[i] = o;
+			points[i * 2] = localPoint[0];
+			points[i * 2 + 1] = localPoint[1];
+			vertexCount += o.getVertexCount();
+		}
+		all.clear();
+
+		if (count >= parallelMinObjects || vertexCount >= parallelMinVertices) {
+			IntStream.range(0, count).parallel()
+					.forEach(i -> contained[i] = objects[i].contains(points[i * 2], points[i * 2 + 1]));
+		} else {
+			for (int i = 0; i < count; i++) {
+				contained[i] = objects[i].contains(points[i * 2], points[i * 2 + 1]);
+			}
+		}
+
+		GraphicObject smaller = null;
+		for (int i = 0; i < count; i++) {
+			if (contained[i] && (smaller == null || objects[i].getBBox().compareTo(smaller.getBBox()) < 0)) {
+				smaller = objects[i];
+			}
+		}
+		Arrays.fill(objects, 0, count, null);
+		return smaller;
+	}
+
+	/**
+	 * Procura todos os objetos, raiz ou filhos, cujos limites no mundo
+	 * intersectam um retngulo ou esto contidos nele.
+	 * <p>
+	 * Como em {@link #findObjectAt(Point4D, Point4D)}, o ndice espacial
+	 * fornece os objetos raiz que intersectam o retngulo e somente os ramos
+	 * que o intersectam so percorridos.
+	 * 
+	 * @param x0
+	 *            X de um canto do retngulo no mundo.
+	 * @param y0
+	 *            Y de um canto do retngulo no mundo.
+	 * @param x1
+	 *            X do canto oposto.
+	 * @param y1
+	 *            Y do canto oposto.
+	 * @param result
+	 *            recebe os objetos encontrados, na ordem da cena.
+	 */
+	public void findObjectsIn(final int x0, final int y0, final int x1, final int y1,
+			final List<GraphicObject> result) {
+		refreshIndex();
+		rangeBounds[0] = Math.min(x0, x1);
+		rangeBounds[1] = Math.min(y0, y1);
+		rangeBounds[2] = Math.max(x0, x1);
+		rangeBounds[3] = Math.max(y0, y1);
+
+		final List<GraphicObject> roots = candidates;
+		roots.clear();
+		index.query(rangeBounds[0], rangeBounds[1], rangeBounds[2], rangeBounds[3], roots);
+		if (roots.size() > 1) {
+			refreshRootOrder();
+			roots.sort(ROOT_ORDER);
+		}
+		for (int i = 0; i < roots.size(); i++) {
+			roots.get(i).collectIntersecting(rangeBounds, result);
+		}
+		roots.clear();
+	}
+
+	/**
+	 * Aplica uma mesma transformao do espao do mundo a vrios objetos de
+	 * uma vez. Cada objeto recebe a transformao j convertida para o espao
+	 * do seu pai, e o ndice espacial  atualizado uma nica vez no fim, em
+	 * vez de uma atualizao por objeto.
+	 * <p>
+	 * Objetos cujo pai, ou outro ancestral, tambm est na lista j so
+	 * movidos junto com ele e no so transformados de novo.
+	 * 
+	 * @param graphicObjects
+	 *            objetos deste mundo.
+	 * @param change
+	 *            transformao no espao do mundo.
+	 */
+	public void transformObjects(final Collection<GraphicObject> graphicObjects, final Affine2D change) {
+		refreshIndex();
+		transformed.addAll(graphicObjects);
+		for (GraphicObject object : graphicObjects) {
+			if (hasAncestorIn(object, transformed)) {
+				continue;
+			}
+			object.applyWorldTransform(change, localChange, parentWorld);
+			update(object);
+		}
+		transformed.clear();
+	}
+
+	private static boolean hasAncestorIn(final GraphicObject object, final Set<GraphicObject> objects) {
+		for (GraphicObject node = object.getParent(); node != null; node = node.getParent()) {
+			if (objects.contains(node)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Calcula o menor retngulo no mundo que contm os objetos e os seus
+	 * filhos, por exemplo para achar o centro de uma rotao em grupo.
+	 * 
+	 * @param graphicObjects
+	 *            objetos deste mundo.
+	 * @param out
+	 *            recebe o retngulo no formato { minX, minY, maxX, maxY }.
+	 * @return <code>false</code> se nenhum dos objetos possui vrtices.
+	 */
+	public boolean getBounds(final Collection<GraphicObject> graphicObjects, final int[] out) {
+		refreshIndex();
+		boolean found = false;
+		for (GraphicObject object : graphicObjects) {
+			if (!object.hasSubtreeBounds()) {
+				continue;
+			}
+			final int[] bounds = object.subtreeBounds();
+			if (found) {
+				out[0] = Math.min(out[0], bounds[0]);
+				out[1] = Math.min(out[1], bounds[1]);
+				out[2] = Math.max(out[2], bounds[2]);
+				out[3] = Math.max(out[3], bounds[3]);
+			} else {
+				System.arraycopy(bounds, 0, out, 0, 4);
+				found = true;
+			}
+		}
+		return found;
+	}
+
+	/**
+	 * Define a partir de quantos candidatos a seleo de objetos testa os
+	 * polgonos em paralelo. Basta atingir um dos dois limites.
+	 * 
+	 * @param minObjects
+	 *            quantidade de objetos candidatos.
+	 * @param minVertices
+	 *            soma dos vrtices dos objetos candidatos.
+	 */
+	public void setParallelPickingThreshold(final int minObjects, final int minVertices) {
+		parallelMinObjects = minObjects;
+		parallelMinVertices = minVertices;
+	}
+
+	private void ensureSnapshotCapacity(final int count) {
+		if (snapshot.length < count) {
+			final int capacity = Math.max(count, snapshot.length * 2);
+			snapshot = new GraphicObject[capacity];
+			snapshotPoints = new int[capacity * 2];
+			snapshotHits = new boolean[capacity];
+		}
+	}
+
+	/**
+	 * Numera os objetos raiz na ordem da lista, para ordenar os resultados
+	 * do ndice espacial sem procurar cada objeto na lista. A numerao s 
+	 * refeita quando a lista muda.
+	 */
+	private void refreshRootOrder() {
+		if (rootOrderVersion == version) {
+			return;
+		}
+		int order = 0;
+		for (GraphicObject root : objects) {
+			root.setRootOrder(order++);
+		}
+		rootOrderVersion = version;
+	}
+
+	/**
+	 * Associa um objeto e todos os seus filhos a este mundo e agenda a
+	 * atualizao do ndice espacial.
+	 * 
+	 * @param graphicObject
+	 *            objeto que passou a fazer parte do mundo.
+	 */
+	void attach(final GraphicObject graphicObject) {
+		setWorld(graphicObject, this);
+		update(graphicObject);
+	}
+
+	/**
+	 * Retira um objeto raiz do ndice espacial e desassocia ele e os seus
+	 * filhos deste mundo.
+	 * 
+	 * @param graphicObject
+	 *            objeto que deixou de fazer parte do mundo.
+	 */
+	private void detach(final GraphicObject graphicObject) {
+		setWorld(graphicObject, null);
+		index.remove(graphicObject);
+		dirtyRoots.remove(graphicObject);
+		dropDetachedFromSelection();
+	}
+
+	/**
+	 * Desassocia deste mundo um objeto que deixou de ser filho de outro.
+	 * 
+	 * @param parent
+	 *            antigo pai do objeto.
+	 * @param child
+	 *            objeto removido, junto com os seus filhos.
+	 */
+	void detachChild(final GraphicObject parent, final GraphicObject child) {
+		setWorld(child, null);
+		dropDetachedFromSelection();
+		update(parent);
+	}
+
+	private void dropDetachedFromSelection() {
+		if (!selection.isEmpty()) {
+			selection.removeIf(o -> o.getWorld() != this);
+		}
+	}
+
+	private static void setWorld(final GraphicObject graphicObject, final World world) {
+		graphicObject.setWorld(world);
+		graphicObject.getGrapicObjects().forEach(o -> setWorld(o, world));
+	}
+
+	/**
+	 * Marca a rvore de um objeto para ter sua posio no ndice espacial
+	 * atualizada antes da prxima consulta ou desenho.
+	 * 
+	 * @param graphicObject
+	 *            objeto cuja geometria ou transformao mudou.
+	 */
+	void update(final GraphicObject graphicObject) {
+		GraphicObject root = graphicObject;
+		while (root.getParent() != null) {
+			root = root.getParent();
+		}
+		dirtyRoots.add(root);
+	}
+
+	/**
+	 * Entrega objetos raiz montados em outra thread. Pode ser chamado de
+	 * qualquer thread e no bloqueia; depois da chamada o objeto e os seus
+	 * filhos no devem mais ser alterados pela thread que os montou.
+	 * 
+	 * @param graphicObject
+	 *            objeto raiz que ainda no faz parte de nenhum mundo.
+	 */
+	public void publish(final GraphicObject graphicObject) {
+		published.add(graphicObject);
+		final Runnable listener = publishListener;
+		if (listener != null) {
+			listener.run();
+		}
+	}
+
+	/**
+	 * Entrega vrios objetos raiz de uma vez, que entram no mundo no mesmo
+	 * desenho.
+	 * 
+	 * @param graphicObjects
+	 *            objetos raiz que ainda no fazem parte de nenhum mundo.
+	 * @see #publish(GraphicObject)
+	 */
+	public void publishAll(final Collection<GraphicObject> graphicObjects) {
+		published.addAll(graphicObjects);
+		final Runnable listener = publishListener;
+		if (listener != null && !graphicObjects.isEmpty()) {
+			listener.run();
 		}
+	}
+
+	/**
+	 * Define a ao executada, na thread que publicou, a cada entrega de
+	 * objetos; normalmente pede um novo quadro.
+	 * 
+	 * @param listener
+	 *            ao a ser executada, ou <code>null</code> para nenhuma.
+	 */
+	public void setPublishListener(final Runnable listener) {
+		publishListener = listener;
+	}
+
+	/**
+	 * Nmero que muda a cada alterao da lista de objetos raiz.
+	 * 
+	 * @return verso atual da lista de {@link #getObjects()}.
+	 */
+	public long getVersion() {
+		return version;
+	}
 
-		all = all.stream()
-				.filter(o -> o.contains(point))
-				.collect(Collectors.toList());
+	/**
+	 * Move para o mundo os objetos entregues por outras threads, com uma
+	 * nica cpia da lista de objetos raiz.
+	 */
+	private void drainPublished() {
+		GraphicObject graphicObject;
+		while ((graphicObject = published.poll()) != null) {
+			drained.add(graphicObject);
+		}
+		if (!drained.isEmpty()) {
+			addAll(drained);
+			drained.clear();
+		}
+	}
 
-		if (all.size() > 0) {
-			GraphicObject smaller = all.get(0);
-			for (GraphicObject go : all) {
-				if (go.getBBox().compareTo(smaller.getBBox()) < 0) {
-					smaller = go;
-				}
+	/**
+	 * Recalcula os limites das rvores que mudaram e atualiza o ndice.
+	 */
+	private void refreshIndex() {
+		drainPublished();
+		if (dirtyRoots.isEmpty()) {
+			return;
+		}
+		for (GraphicObject root : dirtyRoots) {
+			root.refreshHierarchy(identity);
+			if (root.hasSubtreeBounds()) {
+				final int[] bounds = root.subtreeBounds();
+				index.put(root, bounds[0], bounds[1], bounds[2], bounds[3]);
+			} else {
+				index.remove(root);
 			}
-			return smaller;
 		}
-		return null;
+		dirtyRoots.clear();
 	}
 
 	/**
@@ -84,6 +510,33 @@ public class World implements Drawable {
 		currentObject = null;
 	}
 
+	/**
+	 * Substitui os objetos selecionados em grupo, por exemplo pelo retngulo
+	 * de seleo.
+	 * 
+	 * @param graphicObjects
+	 *            objetos deste mundo, ou uma coleo vazia para nenhum.
+	 */
+	public void setSelection(final Collection<GraphicObject> graphicObjects) {
+		selection.clear();
+		selection.addAll(graphicObjects);
+	}
+
+	/**
+	 * @return lista somente leitura dos objetos selecionados em grupo.
+	 */
+	public List<GraphicObject> getSelection() {
+		return selectionView;
+	}
+
+	public boolean hasSelection() {
+		return !selection.isEmpty();
+	}
+
+	public void clearSelection() {
+		selection.clear();
+	}
+
 	/**
 	 * Retorna se mundo possui um objeto selecionado.
 	 * 
@@ -110,7 +563,37 @@ public class World implements Drawable {
 	 *            Objeto a ser adicionado.
 	 */
 	public void add(GraphicObject graphicObject) {
-		objects.add(graphicObject);
+		add(objects.size(), graphicObject);
+	}
+
+	/**
+	 * Adiciona um novo objeto grfico ao mundo em uma posio da lista de
+	 * objetos.
+	 * 
+	 * @param index
+	 *            posio do objeto, de 0 at a quantidade de objetos.
+	 * @param graphicObject
+	 *            Objeto a ser adicionado.
+	 */
+	public void add(int index, GraphicObject graphicObject) {
+		objects.add(index, graphicObject);
+		version++;
+		attach(graphicObject);
+	}
+
+	/**
+	 * Adiciona vrios objetos grficos ao final do mundo, com uma nica cpia
+	 * da lista de objetos raiz.
+	 * 
+	 * @param graphicObjects
+	 *            Objetos a serem adicionados.
+	 */
+	public void addAll(final Collection<GraphicObject> graphicObjects) {
+		objects.addAll(graphicObjects);
+		version++;
+		for (GraphicObject graphicObject : graphicObjects) {
+			attach(graphicObject);
+		}
 	}
 
 	/**
@@ -120,12 +603,83 @@ public class World implements Drawable {
 	 *            objeto a ser removido.
 	 */
 	public void remove(GraphicObject graphicObject) {
-		objects.remove(graphicObject);
+		if (objects.remove(graphicObject)) {
+			version++;
+			detach(graphicObject);
+		}
 	}
 
+	/**
+	 * Remove todos os objetos do mundo, inclusive os entregues por outras
+	 * threads que ainda no entraram nele, e desfaz a seleo.
+	 */
+	public void clear() {
+		published.clear();
+		for (GraphicObject graphicObject : objects) {
+			setWorld(graphicObject, null);
+		}
+		objects.clear();
+		version++;
+		index.clear();
+		dirtyRoots.clear();
+		currentObject = null;
+		selection.clear();
+	}
+
+	/**
+	 * Desenha os objetos do mundo, descartando os que esto totalmente fora
+	 * da janela da cmera. Cada objeto  desenhado com vrtices imediatos,
+	 * como no desenho em software; a janela desenha com o
+	 * {@link BatchRenderer}.
+	 */
 	@Override
 	public void draw(GL gl) {
-		objects.forEach(o -> o.draw(gl));
+		prepareDraw();
+		for (GraphicObject object : objects) {
+			object.draw(gl, frustum);
+		}
+		Metrics.getDefault().objects(frustum.getDrawnCount(), frustum.getCulledCount());
+	}
+
+	/**
+	 * Atualiza os limites dos objetos e a janela da cmera antes de um
+	 * desenho.
+	 * 
+	 * @return janela da cmera, com os contadores zerados.
+	 */
+	ViewFrustum prepareDraw() {
+		frustum.reset(camera);
+		refreshIndex();
+		return frustum;
+	}
+
+	/**
+	 * Obtm os objetos raiz do mundo.
+	 * 
+	 * @return lista somente leitura dos objetos raiz, na ordem de desenho.
+	 */
+	public List<GraphicObject> getObjects() {
+		return objectsView;
+	}
+
+	/**
+	 * Obtm a janela da cmera usada no ltimo desenho, com a quantidade de
+	 * objetos desenhados e descartados.
+	 * 
+	 * @return {@link ViewFrustum} do ltimo desenho.
+	 */
+	public ViewFrustum getFrustum() {
+		return frustum;
+	}
+
+	/**
+	 * Desenha a {@link BBox} do objeto selecionado, se existir.
+	 * 
+	 * @param gl
+	 *            {@link GL} a receber o desenho.
+	 */
+	public void drawSelection(GL gl) {
+		refreshIndex();
 		if (hasCurrentObject()) {
 			final GraphicObject current = getCurrentObject();
 			if (current.hasBBox()) {
@@ -133,6 +687,12 @@ public class World implements Drawable {
 				bbox.draw(gl);
 			}
 		}
+		for (GraphicObject selected : selection) {
+			final BBox bbox = selected.getWorldBBox();
+			if (bbox != null) {
+				bbox.draw(gl);
+			}
+		}
 	}
 
 }
@@ -0,0 +1,491 @@
+package main.controller;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import main.Affine2D;
+import main.GraphicObject;
+import main.World;
+
+/**
+ * Histrico das alteraes feitas no mundo, para desfazer e refazer.
+ * <p>
+ * Cada alterao  guardada como a diferena que ela causou, por exemplo o
+ * ndice e as coordenadas de um vrtice, o deslocamento de uma translao ou
+ * a posio de um objeto entre os seus irmos, e no como uma cpia da cena.
+ * Desfazer e refazer custam o tamanho da alterao. As alteraes ficam em
+ * um buffer circular: ao atingir a capacidade, a alterao mais antiga 
+ * descartada.
+ * <p>
+ * Registrar uma alterao depois de desfazer outras descarta as que podiam
+ * ser refeitas.
+ */
+public class EditJournal {
+
+	private final Edit[] edits;
+	/** Posio da alterao mais antiga em edits. */
+	private int first;
+	/** Alteraes guardadas, incluindo as que podem ser refeitas. */
+	private int count;
+	/** Alteraes que podem ser desfeitas. */
+	private int done;
+
+	/**
+	 * @param capacity
+	 *            quantidade mxima de alteraes guardadas.
+	 */
+	public EditJournal(final int capacity) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("Capacidade invlida: " + capacity);
+		}
+		edits = new Edit[capacity];
+	}
+
+	public int getCapacity() {
+		return edits.length;
+	}
+
+	public boolean canUndo() {
+		return done > 0;
+	}
+
+	public boolean canRedo() {
+		return done < count;
+	}
+
+	/**
+	 * Desfaz a ltima alterao.
+	 *
+	 * @return objeto alterado que deve ficar selecionado, ou
+	 *         <code>null</code> se ele no faz mais parte do mundo, se a
+	 *         alterao foi em um grupo ou se no havia o que desfazer.
+	 */
+	public GraphicObject undo() {
+		if (!canUndo()) {
+			return null;
+		}
+		done--;
+		return edits[(first + done) % edits.length].undo();
+	}
+
+	/**
+	 * Refaz a ltima alterao desfeita.
+	 *
+	 * @return objeto alterado que deve ficar selecionado, ou
+	 *         <code>null</code> se ele no faz mais parte do mundo, se a
+	 *         alterao foi em um grupo ou se no havia o que refazer.
+	 */
+	public GraphicObject redo() {
+		if (!canRedo()) {
+			return null;
+		}
+		final GraphicObject selected = edits[(first + done) % edits.length].redo();
+		done++;
+		return selected;
+	}
+
+	/**
+	 * Descarta todo o histrico.
+	 */
+	public void clear() {
+		for (int i = 0; i < edits.length; i++) {
+			edits[i] = null;
+		}
+		first = 0;
+		count = 0;
+		done = 0;
+	}
+
+	public void vertexAdded(final GraphicObject object, final int index, final int x, final int y) {
+		record(new VertexAdded(object, index, x, y));
+	}
+
+	public void vertexMoved(final GraphicObject object, final int index, final int fromX, final int fromY,
+			final int toX, final int toY) {
+		if (fromX != toX || fromY != toY) {
+			record(new VertexMoved(object, index, fromX, fromY, toX, toY));
+		}
+	}
+
+	public void vertexRemoved(final GraphicObject object, final int index, final int x, final int y) {
+		record(new VertexRemoved(object, index, x, y));
+	}
+
+	public void translated(final GraphicObject object, final int x, final int y) {
+		record(new Translated(object, x, y));
+	}
+
+	public void rotated(final GraphicObject object, final double radians) {
+		record(new Rotated(object, radians));
+	}
+
+	public void scaled(final GraphicObject object, final double scale) {
+		record(new Scaled(object, scale));
+	}
+
+	/**
+	 * @param world
+	 *            mundo dos objetos.
+	 * @param objects
+	 *            objetos transformados juntos por
+	 *            {@link World#transformObjects(Collection, Affine2D)}.
+	 * @param change
+	 *            transformao aplicada, no espao do mundo.
+	 */
+	public void objectsTransformed(final World world, final Collection<GraphicObject> objects,
+			final Affine2D change) {
+		record(new ObjectsTransformed(world, objects, change));
+	}
+
+	public void colorChanged(final GraphicObject object, final float[] from, final float[] to) {
+		record(new ColorChanged(object, from, to));
+	}
+
+	/**
+	 * @param world
+	 *            mundo do objeto.
+	 * @param parent
+	 *            pai do objeto, ou <code>null</code> para um objeto raiz.
+	 * @param object
+	 *            objeto adicionado.
+	 */
+	public void objectAdded(final World world, final GraphicObject parent, final GraphicObject object) {
+		final int index = siblings(world, parent).indexOf(object);
+		record(new ObjectAdded(world, parent, object, index));
+	}
+
+	/**
+	 * @param world
+	 *            mundo do objeto.
+	 * @param parent
+	 *            pai do objeto, ou <code>null</code> para um objeto raiz.
+	 * @param object
+	 *            objeto removido.
+	 * @param index
+	 *            posio que o objeto ocupava entre os seus irmos.
+	 */
+	public void objectRemoved(final World world, final GraphicObject parent, final GraphicObject object,
+			final int index) {
+		record(new ObjectRemoved(world, parent, object, index));
+	}
+
+	private void record(final Edit edit) {
+		for (int i = done; i < count; i++) {
+			edits[(first + i) % edits.length] = null;
+		}
+		count = done;
+		if (count == edits.length) {
+			edits[first] = null;
+			first = (first + 1) % edits.length;
+			count--;
+			done--;
+		}
+		edits[(first + count) % edits.length] = edit;
+		count++;
+		done++;
+	}
+
+	/**
+	 * Alterao que sabe se desfazer e se refazer. Cada mtodo retorna o
+	 * objeto que deve ficar selecionado depois.
+	 */
+	private abstract static class Edit {
+
+		final GraphicObject object;
+
+		Edit(final GraphicObject object) {
+			this.object = object;
+		}
+
+		abstract GraphicObject undo();
+
+		abstract GraphicObject redo();
+	}
+
+	private static final class VertexAdded extends Edit {
+
+		private final int index;
+		private final int x;
+		private final int y;
+
+		VertexAdded(final GraphicObject object, final int index, final int x, final int y) {
+			super(object);
+			this.index = index;
+			this.x = x;
+			this.y = y;
+		}
+
+		@Override
+		GraphicObject undo() {
+			object.removeVertexAt(index);
+			return object;
+		}
+
+		@Override
+		GraphicObject redo() {
+			object.insertVertexAt(index, x, y);
+			return object;
+		}
+	}
+
+	private static final class VertexRemoved extends Edit {
+
+		private final int index;
+		private final int x;
+		private final int y;
+
+		VertexRemoved(final GraphicObject object, final int index, final int x, final int y) {
+			super(object);
+			this.index = index;
+			this.x = x;
+			this.y = y;
+		}
+
+		@Override
+		GraphicObject undo() {
+			object.insertVertexAt(index, x, y);
+			return object;
+		}
+
+		@Override
+		GraphicObject redo() {
+			object.removeVertexAt(index);
+			return object;
+		}
+	}
+
+	private static final class VertexMoved extends Edit {
+
+		private final int index;
+		private final int fromX;
+		private final int fromY;
+		private final int toX;
+		private final int toY;
+
+		VertexMoved(final GraphicObject object, final int index, final int fromX, final int fromY, final int toX,
+				final int toY) {
+			super(object);
+			this.index = index;
+			this.fromX = fromX;
+			this.fromY = fromY;
+			this.toX = toX;
+			this.toY = toY;
+		}
+
+		@Override
+		GraphicObject undo() {
+			object.updateVertexPointAt(index, fromX, fromY);
+			return object;
+		}
+
+		@Override
+		GraphicObject redo() {
+			object.updateVertexPointAt(index, toX, toY);
+			return object;
+		}
+	}
+
+	private static final class Translated extends Edit {
+
+		private final int x;
+		private final int y;
+
+		Translated(final GraphicObject object, final int x, final int y) {
+			super(object);
+			this.x = x;
+			this.y = y;
+		}
+
+		@Override
+		GraphicObject undo() {
+			object.translate(-x, -y);
+			return object;
+		}
+
+		@Override
+		GraphicObject redo() {
+			object.translate(x, y);
+			return object;
+		}
+	}
+
+	/**
+	 * A rotao e a escala so em torno do centro da {@link main.BBox}
+	 * local, que no muda com a transformao; por isso a operao inversa
+	 * desfaz a original.
+	 */
+	private static final class Rotated extends Edit {
+
+		private final double radians;
+
+		Rotated(final GraphicObject object, final double radians) {
+			super(object);
+			this.radians = radians;
+		}
+
+		@Override
+		GraphicObject undo() {
+			object.rotateZ(-radians);
+			return object;
+		}
+
+		@Override
+		GraphicObject redo() {
+			object.rotateZ(radians);
+			return object;
+		}
+	}
+
+	private static final class Scaled extends Edit {
+
+		private final double scale;
+
+		Scaled(final GraphicObject object, final double scale) {
+			super(object);
+			this.scale = scale;
+		}
+
+		@Override
+		GraphicObject undo() {
+			object.scaleXY(1 / scale);
+			return object;
+		}
+
+		@Override
+		GraphicObject redo() {
+			object.scaleXY(scale);
+			return object;
+		}
+	}
+
+	/**
+	 * Guarda somente os objetos e a matriz; desfazer aplica a inversa ao
+	 * mesmo grupo.
+	 */
+	private static final class ObjectsTransformed extends Edit {
+
+		private final World world;
+		private final List<GraphicObject> objects;
+		private final Affine2D change = new Affine2D();
+		private final Affine2D inverse = new Affine2D();
+
+		ObjectsTransformed(final World world, final Collection<GraphicObject> objects, final Affine2D change) {
+			super(null);
+			this.world = world;
+			this.objects = Arrays.asList(objects.toArray(new GraphicObject[objects.size()]));
+			this.change.set(change);
+			this.inverse.set(change);
+			this.inverse.invert();
+		}
+
+		@Override
+		GraphicObject undo() {
+			world.transformObjects(objects, inverse);
+			return null;
+		}
+
+		@Override
+		GraphicObject redo() {
+			world.transformObjects(objects, change);
+			return null;
+		}
+	}
+
+	private static final class ColorChanged extends Edit {
+
+		private final float[] from;
+		private final float[] to;
+
+		ColorChanged(final GraphicObject object, final float[] from, final float[] to) {
+			super(object);
+			this.from = from.clone();
+			this.to = to.clone();
+		}
+
+		@Override
+		GraphicObject undo() {
+			object.setColor(from);
+			return object;
+		}
+
+		@Override
+		GraphicObject redo() {
+			object.setColor(to);
+			return object;
+		}
+	}
+
+	private static final class ObjectAdded extends Edit {
+
+		private final World world;
+		private final GraphicObject parent;
+		private final int index;
+
+		ObjectAdded(final World world, final GraphicObject parent, final GraphicObject object, final int index) {
+			super(object);
+			this.world = world;
+			this.parent = parent;
+			this.index = index;
+		}
+
+		@Override
+		GraphicObject undo() {
+			detach(world, parent, object);
+			return parent;
+		}
+
+		@Override
+		GraphicObject redo() {
+			attach(world, parent, object, index);
+			return object;
+		}
+	}
+
+	private static final class ObjectRemoved extends Edit {
+
+		private final World world;
+		private final GraphicObject parent;
+		private final int index;
+
+		ObjectRemoved(final World world, final GraphicObject parent, final GraphicObject object, final int index) {
+			super(object);
+			this.world = world;
+			this.parent = parent;
+			this.index = index;
+		}
+
+		@Override
+		GraphicObject undo() {
+			attach(world, parent, object, index);
+			return object;
+		}
+
+		@Override
+		GraphicObject redo() {
+			detach(world, parent, object);
+			return parent;
+		}
+	}
+
+	private static void attach(final World world, final GraphicObject parent, final GraphicObject object,
+			final int index) {
+		if (parent != null) {
+			parent.addGraphicObject(index, object);
+		} else {
+			world.add(index, object);
+		}
+	}
+
+	private static List<GraphicObject> siblings(final World world, final GraphicObject parent) {
+		return parent != null ? parent.getGrapicObjects() : world.getObjects();
+	}
+
+	private static void detach(final World world, final GraphicObject parent, final GraphicObject object) {
+		if (parent != null) {
+			parent.removeGraphicObject(object);
+		} else {
+			world.remove(object);
+		}
+	}
+}
@@ -0,0 +1,21 @@
+package main.controller;
+
+/**
+ * Atrao do ponto do mouse ao mover ou criar um vrtice.
+ */
+public enum SnapMode {
+	/** O vrtice acompanha o mouse livremente. */
+	NONE,
+	/** O vrtice  atrado para o vrtice mais prximo do mesmo objeto. */
+	VERTEX,
+	/** O vrtice  atrado para a grade do espao local do objeto. */
+	GRID;
+
+	/**
+	 * @return prximo modo, voltando ao primeiro depois do ltimo.
+	 */
+	public SnapMode next() {
+		final SnapMode[] modes = values();
+		return modes[(ordinal() + 1) % modes.length];
+	}
+}
@@ -6,15 +6,22 @@ import java.awt.event.KeyListener;
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseListener;
 import java.awt.event.MouseMotionListener;
+import java.util.ArrayList;
+import java.util.List;
 
+import javax.media.opengl.GL;
+
+import main.Affine2D;
+import main.BatchRenderer;
 import main.Camera;
+import main.Drawable;
 import main.GraphicObject;
 import main.Point4D;
-import main.Vertex;
 import main.World;
 import main.opengl.utils.ColorUtils;
 import main.view.MainWindow;
 import main.view.Render;
+import main.view.Render.Layer;
 
 public class WorldController implements KeyListener, MouseListener, MouseMotionListener {
 
@@ -22,51 +29,166 @@ public class WorldController implements KeyListener, MouseListener, MouseMotionL
 	private static final double SCALE_UP = 2;
 	private static final double SCALE_DOWN = 0.5;
 	private static final double ROTATE = 5;
+	private static final int JOURNAL_CAPACITY = 1000;
+	/** Distncia mxima para atrair o mouse a um vrtice. */
+	private static final int SNAP_DISTANCE = 15;
+	private static final int GRID_SIZE = 20;
 	private final World world;
 	private final Render render;
+	private final EditJournal journal;
 
 	private int colorIndex = 0;
 	private Point4D initialVertexPos;
 	private int currentVertexIndex = -1;
 	private boolean isCtrlDown = false;
 	private boolean isEditingVertex = false;
+	private int hoverVertexIndex = -1;
+	private SnapMode snapMode = SnapMode.NONE;
+	/* Retngulo de seleo, com os cantos no mundo */
+	private boolean isSelectingArea = false;
+	private boolean isDraggingArea = false;
+	private final int[] areaStart = new int[2];
+	private final int[] areaEnd = new int[2];
+	private final Drawable area = this::drawArea;
+	/* Auxiliares das transformaes em grupo */
+	private final List<GraphicObject> areaObjects = new ArrayList<>();
+	private final int[] groupBounds = new int[4];
+	private final Affine2D groupChange = new Affine2D();
+	/* Pontos do mouse no mundo e no objeto, reaproveitados a cada evento */
+	private final int[] mouseWorldPos = new int[2];
+	private final int[] mouseLocalPos = new int[2];
 
 	public WorldController(final World world, final Render render) {
+		this(world, render, JOURNAL_CAPACITY);
+	}
+
+	/**
+	 * @param world
+	 *            mundo controlado.
+	 * @param render
+	 *            desenho do mundo.
+	 * @param journalCapacity
+	 *            quantidade de alteraes que podem ser desfeitas.
+	 */
+	public WorldController(final World world, final Render render, final int journalCapacity) {
 		this.world = world;
 		this.render = render;
+		this.journal = new EditJournal(journalCapacity);
+		render.setDrawable(Layer.SCENE, new BatchRenderer(world));
+		render.setDrawable(Layer.OVERLAY, world::drawSelection);
+		/*
+		 * Chamado pela thread que publicou; os objetos entram no prximo quadro
+		 * e mudam a verso do mundo, que o BatchRenderer verifica. Os lotes
+		 * publicados antes do quadro ser desenhado geram um nico quadro.
+		 */
+		world.setPublishListener(render::render);
+	}
+
+	/**
+	 * Remove todos os objetos do mundo e descarta o histrico de alteraes,
+	 * por exemplo antes de abrir outro arquivo.
+	 */
+	public void clear() {
+		world.clear();
+		journal.clear();
+		currentVertexIndex = -1;
+		isEditingVertex = false;
+		sceneChanged();
 	}
 
 	private void render() {
 		final Camera camera = world.getCamera();
+		final int width = MainWindow.canvas.getWidth();
+		final int height = MainWindow.canvas.getHeight();
+		if (camera.getViewportWidth() != width || camera.getViewportHeight() != height) {
+			// O nvel de detalhe dos objetos depende do tamanho em pixels
+			camera.setViewportSize(width, height);
+			render.invalidate(Layer.SCENE);
+		}
 		final float[] axis = camera.axisSizes();
-		render.addDrawable(world);
 		render.setAxisSizes(axis);
 		render.render();
 	}
 
+	/**
+	 * Redesenha a cena depois de uma alterao nos objetos do mundo ou no
+	 * objeto selecionado.
+	 */
+	private void sceneChanged() {
+		render.invalidate(Layer.SCENE);
+		render.invalidate(Layer.OVERLAY);
+		hoverVertexIndex = -1;
+		render.clear(Layer.HOVER);
+		render();
+	}
+
 	@Override
 	public void mouseDragged(MouseEvent e) {
+		if (!isSelectingArea) {
+			return;
+		}
+		isDraggingArea = true;
+		framePosToWorldPos(e.getX(), e.getY(), areaEnd);
+		render.setDrawable(Layer.HOVER, area);
+		render();
+	}
+
+	/**
+	 * Desenha o retngulo de seleo.
+	 */
+	private void drawArea(final GL gl) {
+		gl.glColor3f(0.3f, 0.3f, 0.3f);
+		gl.glLineWidth(1f);
+		gl.glBegin(GL.GL_LINE_LOOP);
+		gl.glVertex2i(areaStart[0], areaStart[1]);
+		gl.glVertex2i(areaEnd[0], areaStart[1]);
+		gl.glVertex2i(areaEnd[0], areaEnd[1]);
+		gl.glVertex2i(areaStart[0], areaEnd[1]);
+		gl.glEnd();
 	}
 
 	@Override
 	public void mouseMoved(MouseEvent e) {
+		int vertexOver = -1;
 		if (world.hasCurrentObject()) {
 			GraphicObject currentObject = world.getCurrentObject();
-			final Point4D currentPos = currentObject.transform.getInverseMatriz().transformPoint(worldPoint(e));
+			framePosToWorldPos(e.getX(), e.getY(), mouseWorldPos);
+			currentObject.toLocal(mouseWorldPos[0], mouseWorldPos[1], mouseLocalPos);
 
 			/*
 			 * Se estiver editando o objeto ou um vertice do objeto faz o
 			 * vertice acompanhar o ponteiro do mouse.
 			 */
 			if (currentVertexIndex != -1) {
-				currentObject.updateVertexPointAt(currentVertexIndex, currentPos);
+				snap(currentObject, mouseLocalPos);
+				currentObject.updateVertexPointAt(currentVertexIndex, mouseLocalPos[0], mouseLocalPos[1]);
+				render.invalidate(Layer.SCENE);
+				render.invalidate(Layer.OVERLAY);
+				render();
 			} else {
-				Vertex vertexOver = currentObject.getVertexAtPos(currentPos);
-				if (vertexOver != null) {
-					render.addDrawable(vertexOver.bbox());
-				}
+				vertexOver = currentObject.getVertexIndexAtPos(mouseLocalPos[0], mouseLocalPos[1]);
 			}
 		}
+		updateHover(vertexOver);
+	}
+
+	/**
+	 * Destaca o vrtice sob o mouse. A camada s  alterada quando o vrtice
+	 * destacado muda.
+	 * 
+	 * @param vertexIndex
+	 *            ndice do vrtice no objeto atual, ou -1 para nenhum.
+	 */
+	private void updateHover(final int vertexIndex) {
+		if (vertexIndex == hoverVertexIndex) {
+			return;
+		}
+		hoverVertexIndex = vertexIndex;
+		Drawable hover = null;
+		if (vertexIndex != -1) {
+			hover = world.getCurrentObject().getVertex(vertexIndex).bbox();
+		}
+		render.setDrawable(Layer.HOVER, hover);
 		render();
 	}
 
@@ -74,31 +196,46 @@ public class WorldController implements KeyListener, MouseListener, MouseMotionL
 	public void mouseClicked(MouseEvent e) {
 		Rectangle bounds = MainWindow.canvas.getBounds();
 		double dX = bounds.getWidth() - e.getX();
+		world.clearSelection();
 		final Point4D currentPos = worldPoint(e);
 
 		Point4D transformedPos = null;
 		GraphicObject currentObject = world.getCurrentObject();
 		boolean hasCurrentObject = currentObject != null;
 		if (hasCurrentObject) {
-			transformedPos = currentObject.transform.getInverseMatriz().transformPoint(currentPos);
+			currentObject.toLocal(currentPos.getX(), currentPos.getY(), mouseLocalPos);
+			transformedPos = new Point4D(mouseLocalPos[0], mouseLocalPos[1]);
 		}
 
 		// Adiciona um poligono filho ao objeto selecionado
 		if (hasCurrentObject && e.isShiftDown()) {
 			clearEdition();
 			GraphicObject child = new GraphicObject();
-			child.createVertexAt(currentPos.clone());
+			// O filho comea sem transformao, no espao local do pai
+			child.createVertexAt(transformedPos);
 			currentObject.addGraphicObject(child);
+			journal.objectAdded(world, currentObject, child);
 			world.setCurrentObject(child);
+			sceneChanged();
 			return;
 		}
 
 		if (currentVertexIndex != -1)
 
 		{
+			mouseLocalPos[0] = transformedPos.getX();
+			mouseLocalPos[1] = transformedPos.getY();
+			snap(currentObject, mouseLocalPos);
+			transformedPos = new Point4D(mouseLocalPos[0], mouseLocalPos[1]);
 			currentObject.updateVertexPointAt(currentVertexIndex, transformedPos);
+			if (isEditingVertex) {
+				journal.vertexMoved(currentObject, currentVertexIndex, initialVertexPos.getX(),
+						initialVertexPos.getY(), transformedPos.getX(), transformedPos.getY());
+			} else {
+				journal.vertexAdded(currentObject, currentVertexIndex, transformedPos.getX(), transformedPos.getY());
+			}
 			clearEdition();
-			render();
+			sceneChanged();
 			return;
 		}
 
@@ -122,6 +259,7 @@ public class WorldController implements KeyListener, MouseListener, MouseMotionL
 				object = new GraphicObject();
 				object.createVertexAt(currentPos.clone());
 				world.add(object);
+				journal.objectAdded(world, null, object);
 				world.setCurrentObject(object);
 			}
 			object.createVertexAt(currentPos);
@@ -135,8 +273,35 @@ public class WorldController implements KeyListener, MouseListener, MouseMotionL
 			}
 		}
 
-		render();
+		sceneChanged();
+
+	}
 
+	/**
+	 * Aplica o {@link SnapMode} atual ao ponto do vrtice que est sendo
+	 * movido.
+	 * 
+	 * @param object
+	 *            objeto do vrtice.
+	 * @param local
+	 *            ponto no espao local do objeto, alterado no lugar.
+	 */
+	private void snap(final GraphicObject object, final int[] local) {
+		switch (snapMode) {
+		case VERTEX:
+			final int nearest = object.findNearestVertex(local[0], local[1], SNAP_DISTANCE, currentVertexIndex);
+			if (nearest != -1) {
+				local[0] = object.getVertex(nearest).getX();
+				local[1] = object.getVertex(nearest).getY();
+			}
+			break;
+		case GRID:
+			local[0] = Math.round(local[0] / (float) GRID_SIZE) * GRID_SIZE;
+			local[1] = Math.round(local[1] / (float) GRID_SIZE) * GRID_SIZE;
+			break;
+		default:
+			break;
+		}
 	}
 
 	private void clearEdition() {
@@ -144,12 +309,37 @@ public class WorldController implements KeyListener, MouseListener, MouseMotionL
 		isEditingVertex = false;
 	}
 
+	/**
+	 * Inicia o retngulo de seleo, se no estiver editando vrtices.
+	 */
 	@Override
 	public void mousePressed(MouseEvent e) {
+		isSelectingArea = currentVertexIndex == -1 && !isCtrlDown && !e.isShiftDown();
+		isDraggingArea = false;
+		if (isSelectingArea) {
+			framePosToWorldPos(e.getX(), e.getY(), areaStart);
+		}
 	}
 
+	/**
+	 * Seleciona em grupo todos os objetos que intersectam o retngulo
+	 * arrastado.
+	 */
 	@Override
 	public void mouseReleased(MouseEvent e) {
+		if (!isDraggingArea) {
+			isSelectingArea = false;
+			return;
+		}
+		isSelectingArea = false;
+		isDraggingArea = false;
+		framePosToWorldPos(e.getX(), e.getY(), areaEnd);
+		areaObjects.clear();
+		world.findObjectsIn(areaStart[0], areaStart[1], areaEnd[0], areaEnd[1], areaObjects);
+		world.setSelection(areaObjects);
+		areaObjects.clear();
+		world.removeCurrentObject();
+		sceneChanged();
 	}
 
 	@Override
@@ -184,19 +374,50 @@ public class WorldController implements KeyListener, MouseListener, MouseMotionL
 				graphicObject.updateVertexPointAt(currentVertexIndex, initialVertexPos);
 				clearEdition();
 			} else if (keyCode == KeyEvent.VK_R) {
+				journal.vertexRemoved(graphicObject, currentVertexIndex, initialVertexPos.getX(),
+						initialVertexPos.getY());
 				graphicObject.removeVertexAt(currentVertexIndex);
 				clearEdition();
 			}
-			render();
+			sceneChanged();
 			return;
 		}
 
+		alterSelection(e);
 		alterCurrentObject(e);
+		updateHistory(e);
 		updateCamera(e);
 		updateCurrentObjectColor(e);
+		toggleMetrics(e);
+		toggleSnap(e);
 		render();
 	}
 
+	/**
+	 * Tecla G troca o {@link SnapMode}: sem atrao, atrao aos vrtices e
+	 * atrao  grade.
+	 * 
+	 * @param e
+	 *            Evento do teclado.
+	 */
+	private void toggleSnap(final KeyEvent e) {
+		if (e.getKeyCode() == KeyEvent.VK_G) {
+			snapMode = snapMode.next();
+		}
+	}
+
+	/**
+	 * Tecla M mostra ou esconde o painel de mtricas do desenho.
+	 * 
+	 * @param e
+	 *            Evento do teclado.
+	 */
+	private void toggleMetrics(final KeyEvent e) {
+		if (e.getKeyCode() == KeyEvent.VK_M) {
+			render.setMetricsVisible(!render.isMetricsVisible());
+		}
+	}
+
 	@Override
 	public void keyReleased(final KeyEvent e) {
 		final int keyCode = e.getKeyCode();
@@ -212,7 +433,7 @@ public class WorldController implements KeyListener, MouseListener, MouseMotionL
 			if (currentObject != null) {
 				currentObject.removeVertexAt(currentVertexIndex);
 				clearEdition();
-				render();
+				sceneChanged();
 			}
 		}
 	}
@@ -245,43 +466,161 @@ public class WorldController implements KeyListener, MouseListener, MouseMotionL
 
 			/* Excluir objeto */
 			case KeyEvent.VK_R:
-				world.remove(currentObject);
+				final GraphicObject parent = currentObject.getParent();
+				final int index;
+				if (parent != null) {
+					index = parent.getGrapicObjects().indexOf(currentObject);
+					parent.removeGraphicObject(currentObject);
+				} else {
+					index = world.getObjects().indexOf(currentObject);
+					world.remove(currentObject);
+				}
+				journal.objectRemoved(world, parent, currentObject, index);
 				world.removeCurrentObject();
 				break;
 
 			case KeyEvent.VK_UP:
-				currentObject.translate(0, TRANSLATE);
+				translate(currentObject, 0, TRANSLATE);
 				break;
 
 			case KeyEvent.VK_DOWN:
-				currentObject.translate(0, -TRANSLATE);
+				translate(currentObject, 0, -TRANSLATE);
 				break;
 
 			case KeyEvent.VK_LEFT:
-				currentObject.translate(-TRANSLATE, 0);
+				translate(currentObject, -TRANSLATE, 0);
 				break;
 
 			case KeyEvent.VK_RIGHT:
-				currentObject.translate(TRANSLATE, 0);
+				translate(currentObject, TRANSLATE, 0);
 				break;
 
 			case KeyEvent.VK_F1:
-				currentObject.rotateZ(Math.toRadians(ROTATE));
+				rotate(currentObject, Math.toRadians(ROTATE));
 				break;
 
 			case KeyEvent.VK_F2:
-				currentObject.rotateZ(Math.toRadians(-ROTATE));
+				rotate(currentObject, Math.toRadians(-ROTATE));
 				break;
 
 			case KeyEvent.VK_F3:
-				currentObject.scaleXY(SCALE_UP);
+				scale(currentObject, SCALE_UP);
 				break;
 
 			case KeyEvent.VK_F4:
-				currentObject.scaleXY(SCALE_DOWN);
+				scale(currentObject, SCALE_DOWN);
 				break;
+
+			default:
+				return;
 			}
+			sceneChanged();
+		}
+	}
+
+	/**
+	 * Transforma juntos os objetos selecionados pelo retngulo, com as mesmas
+	 * teclas de {@link #alterCurrentObject(KeyEvent)}. A rotao e a escala
+	 * so em torno do centro do grupo.
+	 * 
+	 * @param e
+	 *            Evento do teclado.
+	 */
+	private void alterSelection(final KeyEvent e) {
+		if (!world.hasSelection() || world.hasCurrentObject() || currentVertexIndex != -1
+				|| !world.getBounds(world.getSelection(), groupBounds)) {
+			return;
+		}
+		final double centerX = (groupBounds[0] + (double) groupBounds[2]) / 2;
+		final double centerY = (groupBounds[1] + (double) groupBounds[3]) / 2;
+		switch (e.getKeyCode()) {
+		case KeyEvent.VK_UP:
+			groupChange.setTranslation(0, TRANSLATE);
+			break;
+		case KeyEvent.VK_DOWN:
+			groupChange.setTranslation(0, -TRANSLATE);
+			break;
+		case KeyEvent.VK_LEFT:
+			groupChange.setTranslation(-TRANSLATE, 0);
+			break;
+		case KeyEvent.VK_RIGHT:
+			groupChange.setTranslation(TRANSLATE, 0);
+			break;
+		case KeyEvent.VK_F1:
+			groupChange.setRotation(Math.toRadians(ROTATE), centerX, centerY);
+			break;
+		case KeyEvent.VK_F2:
+			groupChange.setRotation(Math.toRadians(-ROTATE), centerX, centerY);
+			break;
+		case KeyEvent.VK_F3:
+			groupChange.setScale(SCALE_UP, centerX, centerY);
+			break;
+		case KeyEvent.VK_F4:
+			groupChange.setScale(SCALE_DOWN, centerX, centerY);
+			break;
+		default:
+			return;
 		}
+		world.transformObjects(world.getSelection(), groupChange);
+		journal.objectsTransformed(world, world.getSelection(), groupChange);
+		sceneChanged();
+	}
+
+	private void translate(final GraphicObject object, final int x, final int y) {
+		object.translate(x, y);
+		journal.translated(object, x, y);
+	}
+
+	private void rotate(final GraphicObject object, final double radians) {
+		object.rotateZ(radians);
+		journal.rotated(object, radians);
+	}
+
+	private void scale(final GraphicObject object, final double scale) {
+		object.scaleXY(scale);
+		journal.scaled(object, scale);
+	}
+
+	/**
+	 * Desfaz ou refaz alteraes. O objeto alterado passa a ser o objeto
+	 * selecionado.
+	 * <p>
+	 * Funo das teclas:
+	 * <ul>
+	 * <li>Tecla Z desfaz a ltima alterao;</li>
+	 * <li>Tecla Y refaz a ltima alterao desfeita.</li>
+	 * </ul>
+	 * 
+	 * @param e
+	 *            Evento do teclado.
+	 */
+	private void updateHistory(final KeyEvent e) {
+		if (currentVertexIndex != -1) {
+			return;
+		}
+		final GraphicObject selected;
+		switch (e.getKeyCode()) {
+		case KeyEvent.VK_Z:
+			if (!journal.canUndo()) {
+				return;
+			}
+			selected = journal.undo();
+			break;
+		case KeyEvent.VK_Y:
+			if (!journal.canRedo()) {
+				return;
+			}
+			selected = journal.redo();
+			break;
+		default:
+			return;
+		}
+		if (selected != null) {
+			world.setCurrentObject(selected);
+		} else {
+			world.removeCurrentObject();
+		}
+		sceneChanged();
 	}
 
 	/**
@@ -302,6 +641,7 @@ public class WorldController implements KeyListener, MouseListener, MouseMotionL
 			return;
 		}
 		GraphicObject current = world.getCurrentObject();
+		final float[] previousColor = current.getColor();
 		switch (e.getKeyCode()) {
 		case KeyEvent.VK_1:
 			current.incRed();
@@ -319,8 +659,11 @@ public class WorldController implements KeyListener, MouseListener, MouseMotionL
 				colorIndex = 0;
 			}
 			break;
+		default:
+			return;
 		}
-		render();
+		journal.colorChanged(current, previousColor, current.getColor());
+		sceneChanged();
 	}
 
 	/**
@@ -334,10 +677,26 @@ public class WorldController implements KeyListener, MouseListener, MouseMotionL
 	 *         mundo.
 	 */
 	private Point4D framePosToWorldPos(int x, int y) {
+		final int[] pos = new int[2];
+		framePosToWorldPos(x, y, pos);
+		return new Point4D(pos[0], pos[1]);
+	}
+
+	/**
+	 * Converte os pontos X e Y do frame para X e Y do mundo, sem alocar
+	 * objetos.
+	 * 
+	 * @param x
+	 *            Ponto X do frame.
+	 * @param y
+	 *            Ponto Y do frame.
+	 * @param out
+	 *            Recebe X e Y do mundo nas posies 0 e 1.
+	 */
+	private void framePosToWorldPos(int x, int y, int[] out) {
 		// Pega o tamanho do canvas e j pr-calcula metade do tamanho
-		final Rectangle canvasBounds = MainWindow.canvas.getBounds();
-		int canvasHalfWidth = (int) (canvasBounds.getWidth() / 2);
-		final double canvasHeight = canvasBounds.getHeight();
+		int canvasHalfWidth = MainWindow.canvas.getWidth() / 2;
+		final double canvasHeight = MainWindow.canvas.getHeight();
 		int canvasHalfHeight = (int) (canvasHeight / 2);
 
 		// Aqui  transformado de orientao "top to bottom" e "left to right"
@@ -359,7 +718,8 @@ public class WorldController implements KeyListener, MouseListener, MouseMotionL
 		xCalculated = (int) (((xCalculated * cameraHalfWidth) / canvasHalfWidth) - xAxisOffset);
 		yCalculated = (int) (((yCalculated * cameraHalfHeight) / canvasHalfHeight) - yAxisOffset);
 
-		return new Point4D(xCalculated, yCalculated);
+		out[0] = xCalculated;
+		out[1] = yCalculated;
 	}
 
 	/**
@@ -411,7 +771,7 @@ public class WorldController implements KeyListener, MouseListener, MouseMotionL
 	 */
 	private void zoom(final int offset) {
 		world.getCamera().zoom(offset);
-		render();
+		cameraChanged();
 	}
 
 	/**
@@ -424,6 +784,15 @@ public class WorldController implements KeyListener, MouseListener, MouseMotionL
 	 */
 	private void adjustPan(final int axis, final int offset) {
 		world.getCamera().pan(axis, offset);
+		cameraChanged();
+	}
+
+	/**
+	 * Redesenha a cena depois de uma alterao na cmera, pois os objetos
+	 * descartados dependem da rea visvel.
+	 */
+	private void cameraChanged() {
+		render.invalidate(Layer.SCENE);
 		render();
 	}
 }
@@ -0,0 +1,304 @@
+package main.opengl;
+
+import java.util.Arrays;
+
+import javax.media.opengl.GL;
+
+/**
+ * {@link GL} que no desenha em uma tela: guarda as primitivas recebidas j
+ * projetadas em coordenadas de pixel, para serem rasterizadas depois em
+ * software.
+ * <p>
+ * So suportadas as chamadas usadas pelos objetos desenhveis do editor:
+ * pilha da matriz de modelagem, cor, espessura de linha, tamanho de ponto e
+ * <code>glBegin</code>/<code>glEnd</code> com <code>GL_POINTS</code>,
+ * <code>GL_LINES</code>, <code>GL_LINE_STRIP</code> e
+ * <code>GL_LINE_LOOP</code>. As demais primitivas so ignoradas.
+ * <p>
+ * A projeo  a ortogonal de {@link #setViewport}, equivalente ao
+ * <code>gluOrtho2D</code> do desenho com OpenGL, e a origem dos pixels fica no
+ * canto superior esquerdo.
+ */
+public class SoftwareGL extends GLAdapter {
+
+	private static final int MATRIX_SIZE = 16;
+	private static final int MAX_STACK_DEPTH = 32;
+	/* Campos de cada primitiva em data */
+	private static final int X0 = 0;
+	private static final int Y0 = 1;
+	private static final int X1 = 2;
+	private static final int Y1 = 3;
+	private static final int SIZE = 4;
+	private static final int STRIDE = 5;
+
+	private final double[] stack = new double[MATRIX_SIZE * MAX_STACK_DEPTH];
+	private int top;
+	private int matrixMode = GL_MODELVIEW;
+	/* Projeo do mundo para pixels: px = scaleX * x + offsetX */
+	private double scaleX = 1;
+	private double scaleY = 1;
+	private double offsetX;
+	private double offsetY;
+
+	private int color = 0xFF000000;
+	private float lineWidth = 1;
+	private float pointSize = 1;
+
+	/* Vrtices entre glBegin e glEnd, j projetados */
+	private int mode = -1;
+	private float[] vertices = new float[64];
+	private int[] vertexColors = new int[32];
+	private int vertexCount;
+
+	/* Primitivas gravadas, na ordem em que foram desenhadas */
+	private float[] data = new float[STRIDE * 256];
+	private int[] colors = new int[256];
+	private boolean[] points = new boolean[256];
+	private int count;
+
+	public SoftwareGL() {
+		glLoadIdentity();
+	}
+
+	/**
+	 * Define a projeo ortogonal e apaga as primitivas gravadas e a pilha de
+	 * matrizes.
+	 *
+	 * @param left
+	 *            X do mundo na borda esquerda.
+	 * @param right
+	 *            X do mundo na borda direita.
+	 * @param bottom
+	 *            Y do mundo na borda inferior.
+	 * @param top
+	 *            Y do mundo na borda superior.
+	 * @param width
+	 *            largura em pixels.
+	 * @param height
+	 *            altura em pixels.
+	 */
+	public void setViewport(final double left, final double right, final double bottom, final double top,
+			final int width, final int height) {
+		scaleX = width / (right - left);
+		offsetX = -left * scaleX;
+		scaleY = -height / (top - bottom);
+		offsetY = -top * scaleY;
+		reset();
+	}
+
+	/**
+	 * Apaga as primitivas gravadas e volta o estado para o inicial, mantendo
+	 * a projeo.
+	 */
+	public void reset() {
+		count = 0;
+		vertexCount = 0;
+		mode = -1;
+		this.top = 0;
+		matrixMode = GL_MODELVIEW;
+		color = 0xFF000000;
+		lineWidth = 1;
+		pointSize = 1;
+		glLoadIdentity();
+	}
+
+	/**
+	 * @return quantidade de primitivas gravadas; cada segmento de linha e
+	 *         cada ponto  uma primitiva.
+	 */
+	public int getPrimitiveCount() {
+		return count;
+	}
+
+	public boolean isPoint(final int index) {
+		return points[index];
+	}
+
+	public float getX0(final int index) {
+		return data[index * STRIDE + X0];
+	}
+
+	public float getY0(final int index) {
+		return data[index * STRIDE + Y0];
+	}
+
+	public float getX1(final int index) {
+		return data[index * STRIDE + X1];
+	}
+
+	public float getY1(final int index) {
+		return data[index * STRIDE + Y1];
+	}
+
+	/**
+	 * @return espessura da linha ou tamanho do ponto, em pixels.
+	 */
+	public float getSize(final int index) {
+		return data[index * STRIDE + SIZE];
+	}
+
+	/**
+	 * @return cor no formato ARGB.
+	 */
+	public int getColor(final int index) {
+		return colors[index];
+	}
+
+	@Override
+	public void glMatrixMode(int mode) {
+		matrixMode = mode;
+	}
+
+	@Override
+	public void glLoadIdentity() {
+		if (matrixMode != GL_MODELVIEW) {
+			return;
+		}
+		final int offset = top * MATRIX_SIZE;
+		Arrays.fill(stack, offset, offset + MATRIX_SIZE, 0);
+		stack[offset] = stack[offset + 5] = stack[offset + 10] = stack[offset + 15] = 1;
+	}
+
+	@Override
+	public void glPushMatrix() {
+		if (matrixMode != GL_MODELVIEW) {
+			return;
+		}
+		if (top + 1 >= MAX_STACK_DEPTH) {
+			throw new IllegalStateException("Pilha de matrizes cheia");
+		}
+		System.arraycopy(stack, top * MATRIX_SIZE, stack, (top + 1) * MATRIX_SIZE, MATRIX_SIZE);
+		top++;
+	}
+
+	@Override
+	public void glPopMatrix() {
+		if (matrixMode == GL_MODELVIEW && top > 0) {
+			top--;
+		}
+	}
+
+	@Override
+	public void glMultMatrixd(double[] m, int offset) {
+		if (matrixMode != GL_MODELVIEW) {
+			return;
+		}
+		final int base = top * MATRIX_SIZE;
+		for (int row = 0; row < 4; row++) {
+			final double a0 = stack[base + row];
+			final double a1 = stack[base + row + 4];
+			final double a2 = stack[base + row + 8];
+			final double a3 = stack[base + row + 12];
+			for (int col = 0; col < 4; col++) {
+				final int c = offset + col * 4;
+				stack[base + row + col * 4] = a0 * m[c] + a1 * m[c + 1] + a2 * m[c + 2] + a3 * m[c + 3];
+			}
+		}
+	}
+
+	@Override
+	public void glColor3f(float red, float green, float blue) {
+		color = 0xFF000000 | (channel(red) << 16) | (channel(green) << 8) | channel(blue);
+	}
+
+	@Override
+	public void glLineWidth(float width) {
+		lineWidth = width;
+	}
+
+	@Override
+	public void glPointSize(float size) {
+		pointSize = size;
+	}
+
+	@Override
+	public void glBegin(int mode) {
+		this.mode = mode;
+		vertexCount = 0;
+	}
+
+	@Override
+	public void glVertex2d(double x, double y) {
+		final int base = top * MATRIX_SIZE;
+		final double wx = stack[base] * x + stack[base + 4] * y + stack[base + 12];
+		final double wy = stack[base + 1] * x + stack[base + 5] * y + stack[base + 13];
+		if (vertexCount * 2 == vertices.length) {
+			vertices = Arrays.copyOf(vertices, vertices.length * 2);
+			vertexColors = Arrays.copyOf(vertexColors, vertexColors.length * 2);
+		}
+		vertices[vertexCount * 2] = (float) (scaleX * wx + offsetX);
+		vertices[vertexCount * 2 + 1] = (float) (scaleY * wy + offsetY);
+		vertexColors[vertexCount] = color;
+		vertexCount++;
+	}
+
+	@Override
+	public void glVertex2f(float x, float y) {
+		glVertex2d(x, y);
+	}
+
+	@Override
+	public void glVertex2i(int x, int y) {
+		glVertex2d(x, y);
+	}
+
+	@Override
+	public void glEnd() {
+		switch (mode) {
+		case GL_POINTS:
+			for (int i = 0; i < vertexCount; i++) {
+				addPrimitive(i, i, pointSize, true);
+			}
+			break;
+		case GL_LINES:
+			for (int i = 1; i < vertexCount; i += 2) {
+				addPrimitive(i - 1, i, lineWidth, false);
+			}
+			break;
+		case GL_LINE_STRIP:
+		case GL_LINE_LOOP:
+			for (int i = 1; i < vertexCount; i++) {
+				addPrimitive(i - 1, i, lineWidth, false);
+			}
+			if (mode == GL_LINE_LOOP && vertexCount > 2) {
+				addPrimitive(vertexCount - 1, 0, lineWidth, false);
+			}
+			break;
+		default:
+			break;
+		}
+		mode = -1;
+		vertexCount = 0;
+	}
+
+	@Override
+	public boolean isFunctionAvailable(String name) {
+		return false;
+	}
+
+	/**
+	 * Grava um segmento entre dois vrtices, ou um ponto se os ndices forem
+	 * iguais. Assim como no OpenGL sem suavizao, o segmento recebe a cor do
+	 * ltimo vrtice.
+	 */
+	private void addPrimitive(final int from, final int to, final float size, final boolean point) {
+		if (count == colors.length) {
+			data = Arrays.copyOf(data, data.length * 2);
+			colors = Arrays.copyOf(colors, colors.length * 2);
+			points = Arrays.copyOf(points, points.length * 2);
+		}
+		final int offset = count * STRIDE;
+		data[offset + X0] = vertices[from * 2];
+		data[offset + Y0] = vertices[from * 2 + 1];
+		data[offset + X1] = vertices[to * 2];
+		data[offset + Y1] = vertices[to * 2 + 1];
+		data[offset + SIZE] = size;
+		colors[count] = vertexColors[to];
+		points[count] = point;
+		count++;
+	}
+
+	private static int channel(final float value) {
+		return Math.round(Math.max(0f, Math.min(1f, value)) * 255f);
+	}
+}
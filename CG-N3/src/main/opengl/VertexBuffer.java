@@ -0,0 +1,143 @@
+package main.opengl;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import javax.media.opengl.GL;
+
+/**
+ * Nome de um vertex buffer object (VBO) na placa de vdeo.
+ * <p>
+ * Quem usa o buffer guarda os dados na memria e s os reenvia quando
+ * {@link #bind(GL)} indica que o contedo da placa de vdeo no vale mais,
+ * evitando copiar os vrtices a cada quadro.
+ * <p>
+ * Os nomes dos buffers pertencem ao contexto do OpenGL que os criou. Quando o
+ * contexto  recriado, {@link #contextCreated()} faz cada buffer gerar um
+ * novo nome e pedir o reenvio dos dados no prximo desenho.
+ * <p>
+ * Chamadas de buffer object no so gravadas em display lists; dentro de uma
+ * display list o <code>glDrawArrays</code> copia os vrtices para a lista e o
+ * envio para o buffer no  aproveitado.
+ */
+public class VertexBuffer {
+
+	private static final Queue<Integer> released = new ConcurrentLinkedQueue<>();
+
+	/** ltimo contexto verificado, pode ser lido por vrias threads. */
+	private static volatile SupportCheck lastCheck;
+	/** Contexto atual, incrementado a cada {@link #contextCreated()}. */
+	private static volatile int contextGeneration;
+
+	private int id;
+	/** Contexto em que o buffer id foi criado. */
+	private int generation;
+	private boolean dirty = true;
+
+	/**
+	 * Verifica se o contexto suporta vertex buffer objects.
+	 *
+	 * @param gl
+	 *            {@link GL} do contexto atual.
+	 * @return <code>true</code> se as funes de VBO esto disponveis,
+	 *         <code>false</code> de outra maneira.
+	 */
+	public static boolean isSupported(final GL gl) {
+		SupportCheck check = lastCheck;
+		if (check == null || check.gl != gl) {
+			check = new SupportCheck(gl, gl.isFunctionAvailable("glGenBuffers") && gl.isFunctionAvailable("glBindBuffer")
+					&& gl.isFunctionAvailable("glBufferData") && gl.isFunctionAvailable("glBufferSubData")
+					&& gl.isFunctionAvailable("glDeleteBuffers"));
+			lastCheck = check;
+		}
+		return check.supported;
+	}
+
+	/**
+	 * Avisa que um novo contexto do OpenGL foi criado. Os nomes dos buffers do
+	 * contexto anterior deixam de existir: os liberados no so mais apagados
+	 * e os demais so recriados no prximo desenho.
+	 */
+	public static void contextCreated() {
+		released.clear();
+		contextGeneration++;
+	}
+
+	/**
+	 * Apaga os buffers liberados desde a ltima chamada. Deve ser chamado com o
+	 * contexto do OpenGL ativo.
+	 *
+	 * @param gl
+	 *            {@link GL} do contexto atual.
+	 */
+	public static void deleteReleased(final GL gl) {
+		Integer id;
+		while ((id = released.poll()) != null) {
+			gl.glDeleteBuffers(1, new int[] { id }, 0);
+		}
+	}
+
+	/**
+	 * Indica que os dados mudaram e precisam ser reenviados.
+	 */
+	public void invalidate() {
+		dirty = true;
+	}
+
+	/**
+	 * Liga o buffer em <code>GL_ARRAY_BUFFER</code>, criando-o antes se ele
+	 * ainda no existe no contexto atual.
+	 *
+	 * @param gl
+	 *            {@link GL} do contexto atual.
+	 * @return <code>true</code> se os dados precisam ser enviados com
+	 *         <code>glBufferData</code>, pois o buffer foi criado agora ou foi
+	 *         invalidado.
+	 */
+	public boolean bind(final GL gl) {
+		final int current = contextGeneration;
+		if (id != 0 && generation != current) {
+			id = 0;
+		}
+		if (id == 0) {
+			final int[] ids = new int[1];
+			gl.glGenBuffers(1, ids, 0);
+			id = ids[0];
+			generation = current;
+			dirty = true;
+		}
+		gl.glBindBuffer(GL.GL_ARRAY_BUFFER, id);
+		final boolean upload = dirty;
+		dirty = false;
+		return upload;
+	}
+
+	/**
+	 * Libera o buffer da placa de vdeo. A excluso acontece no prximo
+	 * {@link #deleteReleased(GL)}, pois pode ser chamado fora do contexto do
+	 * OpenGL.
+	 */
+	public void release() {
+		if (id != 0 && generation == contextGeneration) {
+			released.add(id);
+		}
+		id = 0;
+		dirty = true;
+	}
+
+	/**
+	 * Resultado da verificao de um contexto. O contexto e o resultado so
+	 * publicados juntos para que outra thread, por exemplo um desenho em
+	 * software, no leia o resultado de um contexto diferente.
+	 */
+	private static final class SupportCheck {
+
+		private final GL gl;
+		private final boolean supported;
+
+		private SupportCheck(final GL gl, final boolean supported) {
+			this.gl = gl;
+			this.supported = supported;
+		}
+	}
+}
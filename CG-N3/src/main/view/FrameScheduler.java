@@ -0,0 +1,92 @@
+package main.view;
+
+import java.awt.EventQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.swing.Timer;
+
+/**
+ * Agenda o desenho dos quadros sob demanda.
+ * <p>
+ * Cada pedido de desenho apenas marca a cena como suja. Todos os pedidos
+ * feitos at o quadro ser desenhado so agrupados em um nico quadro, que 
+ * executado na thread de eventos do AWT. Opcionalmente os quadros podem ser
+ * limitados a uma quantidade mxima por segundo.
+ */
+public class FrameScheduler {
+
+	private final Runnable frame;
+	private final Runnable flush = this::flush;
+	private final AtomicBoolean pending = new AtomicBoolean();
+	private final AtomicLong framesRendered = new AtomicLong();
+	private final AtomicLong framesSkipped = new AtomicLong();
+	private final Timer timer;
+
+	private volatile long minFrameInterval;
+	private long lastFrameTime;
+
+	/**
+	 * @param frame
+	 *            ao que desenha um quadro, executada na thread de eventos
+	 *            do AWT.
+	 */
+	public FrameScheduler(final Runnable frame) {
+		this.frame = frame;
+		timer = new Timer(0, e -> flush.run());
+		timer.setRepeats(false);
+	}
+
+	/**
+	 * Marca a cena como suja. Pode ser chamado de qualquer thread; se j existe
+	 * um quadro pendente o pedido  agrupado nele.
+	 */
+	public void requestFrame() {
+		if (pending.compareAndSet(false, true)) {
+			EventQueue.invokeLater(flush);
+		} else {
+			framesSkipped.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Limita a quantidade de quadros desenhados por segundo.
+	 *
+	 * @param fps
+	 *            quantidade mxima de quadros por segundo, zero para no
+	 *            limitar.
+	 */
+	public void setMaxFramesPerSecond(final int fps) {
+		minFrameInterval = fps <= 0 ? 0 : TimeUnit.SECONDS.toNanos(1) / fps;
+	}
+
+	/**
+	 * @return quantidade de quadros desenhados.
+	 */
+	public long getFramesRendered() {
+		return framesRendered.get();
+	}
+
+	/**
+	 * @return quantidade de pedidos de desenho que foram agrupados em um
+	 *         quadro j pendente e por isso no geraram um quadro prprio.
+	 */
+	public long getFramesSkipped() {
+		return framesSkipped.get();
+	}
+
+	private void flush() {
+		final long now = System.nanoTime();
+		final long wait = lastFrameTime + minFrameInterval - now;
+		if (lastFrameTime != 0 && wait > 0) {
+			timer.setInitialDelay((int) Math.max(1, TimeUnit.NANOSECONDS.toMillis(wait)));
+			timer.restart();
+			return;
+		}
+		pending.set(false);
+		lastFrameTime = now;
+		framesRendered.incrementAndGet();
+		frame.run();
+	}
+}
@@ -1,12 +1,18 @@
 package main.view;
 
 import java.awt.BorderLayout;
+import java.awt.EventQueue;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.CancellationException;
 
 import javax.media.opengl.GLCanvas;
 import javax.media.opengl.GLCapabilities;
 import javax.swing.JFrame;
 import javax.swing.WindowConstants;
 
+import main.Metrics;
+import main.SceneLoader;
 import main.World;
 import main.controller.WorldController;
 
@@ -14,15 +20,19 @@ public class MainWindow extends JFrame {
 
 	public static GLCanvas canvas;
 	private static final long serialVersionUID = 1L;
+	private static final String TITLE = "CG-N3";
 	public static final MainWindow mainWindow = new MainWindow();
 	
 
 	private final World world = new World();
 	private final Render render = new Render();
 	private final WorldController controller = new WorldController(world, render);
+	private final SceneLoader loader = new SceneLoader();
+	/* ltimo carregamento iniciado, usado somente na thread de eventos */
+	private SceneLoader.Loading loading;
 
 	public MainWindow() {
-		super("CG-N3");
+		super(TITLE);
 		setBounds(300, 250, 400, 422); // 400 + 22 da borda do titulo da janela
 		setDefaultCloseOperation(WindowConstants.EXIT_ON_CLOSE);
 		getContentPane().setLayout(new BorderLayout());
@@ -50,7 +60,54 @@ public class MainWindow extends JFrame {
 		canvas.requestFocus();
 	}
 
+	/**
+	 * Carrega um arquivo em segundo plano; os objetos aparecem aos poucos e o
+	 * andamento  mostrado no ttulo da janela. Um carregamento anterior
+	 * ainda em andamento  cancelado e os objetos do mundo so substitudos
+	 * pelos do arquivo.
+	 * 
+	 * @param path
+	 *            arquivo SVG ou de cena a ser aberto.
+	 */
+	public void open(final Path path) {
+		if (loading != null) {
+			loading.cancel();
+		}
+		controller.clear();
+		final String name = String.valueOf(path.getFileName());
+		loading = loader.load(path, world, new SceneLoader.Listener() {
+
+			@Override
+			public void progress(final SceneLoader.Loading current) {
+				final long percent = Math.round(current.getProgress() * 100);
+				showTitle(current, TITLE + " - " + name + " (" + percent + "%)");
+			}
+
+			@Override
+			public void finished(final SceneLoader.Loading current, final Throwable error) {
+				if (error == null || error instanceof CancellationException) {
+					showTitle(current, TITLE + " - " + name);
+				} else {
+					showTitle(current, TITLE + " - erro ao abrir " + name + ": " + error.getMessage());
+				}
+			}
+		});
+	}
+
+	private void showTitle(final SceneLoader.Loading current, final String title) {
+		EventQueue.invokeLater(() -> {
+			if (loading == current) {
+				setTitle(title);
+			}
+		});
+	}
+
 	public static void main(String[] args) {
+		Metrics.register();
 		mainWindow.setVisible(true);
+		if (args.length > 0) {
+			final Path path = Paths.get(args[0]);
+			EventQueue.invokeLater(() -> mainWindow.open(path));
+		}
 	}
 }
@@ -1,6 +1,10 @@
 package main.view;
 
-import java.util.Stack;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 import javax.media.opengl.DebugGL;
 import javax.media.opengl.GL;
@@ -8,36 +12,91 @@ import javax.media.opengl.GLAutoDrawable;
 import javax.media.opengl.GLEventListener;
 import javax.media.opengl.glu.GLU;
 
+import com.sun.opengl.util.GLUT;
+
 import main.Drawable;
+import main.Metrics;
+import main.opengl.VertexBuffer;
 
 public class Render implements GLEventListener {
 
-	private final Stack<Drawable> drawings = new Stack<>();
+	/**
+	 * Camadas de desenho, desenhadas na ordem em que so declaradas.
+	 */
+	public enum Layer {
+		/**
+		 * Objetos do mundo. Muda a cada edio, movimento da cmera e lote
+		 * carregado, por isso no  gravada em display list: o
+		 * {@link main.BatchRenderer} guarda os prprios buffers e s os refaz
+		 * quando a cena muda.
+		 */
+		SCENE(false),
+		/** Seleo e demais indicaes sobre a cena. */
+		OVERLAY(true),
+		/** Indicaes que mudam a cada movimento do mouse. */
+		HOVER(true);
+
+		private final boolean compiled;
+
+		private Layer(final boolean compiled) {
+			this.compiled = compiled;
+		}
+	}
+
+	private static final int METRICS_MARGIN = 8;
+	private static final int METRICS_LINE_HEIGHT = 14;
+
+	private final Map<Layer, DrawLayer> layers = new EnumMap<>(Layer.class);
 	private final float[] axisSizes = { -400.0f, 400.0f, -400.0f, 400.0f };
+	private final FrameScheduler scheduler = new FrameScheduler(this::displayNow);
+	private final Metrics metrics = Metrics.getDefault();
 
 	private GL gl;
 	private GLU glu;
+	private GLUT glut;
 	private GLAutoDrawable glDrawable;
+	private int width;
+	private int height;
+	private volatile boolean metricsVisible;
+
+	public Render() {
+		for (Layer layer : Layer.values()) {
+			layers.put(layer, new DrawLayer(layer.compiled));
+		}
+	}
 
 	@Override
 	public void init(GLAutoDrawable drawable) {
+		// As display lists e os buffers de um contexto anterior no existem mais
+		layers.values().forEach(DrawLayer::reset);
+		VertexBuffer.contextCreated();
 		glu = new GLU();
+		glut = new GLUT();
 		gl = drawable.getGL();
 		gl.glClearColor(1f, 1f, 1f, 1.0f);
+		// Sincroniza a troca de buffers com o vsync do monitor
+		gl.setSwapInterval(1);
 		drawable.setGL(new DebugGL(gl));
 		glDrawable = drawable;
 	}
 
 	@Override
 	public void display(GLAutoDrawable arg0) {
+		metrics.beginFrame();
+		VertexBuffer.deleteReleased(gl);
 		gl.glClear(GL.GL_COLOR_BUFFER_BIT);
+		gl.glMatrixMode(GL.GL_PROJECTION);
+		gl.glLoadIdentity();
 		glu.gluOrtho2D(axisSizes[0], axisSizes[1], axisSizes[2], axisSizes[3]);
 		gl.glMatrixMode(GL.GL_MODELVIEW);
 		gl.glLoadIdentity();
 		SRU(gl);
-		while (!drawings.isEmpty()) {
-			Drawable d = drawings.pop();
-			d.draw(gl);
+		for (DrawLayer layer : layers.values()) {
+			layer.draw(gl, metrics);
+		}
+		metrics.endFrame();
+		if (metricsVisible) {
+			drawMetrics();
 		}
 		gl.glFlush();
 	}
@@ -47,16 +106,70 @@ public class Render implements GLEventListener {
 		gl.glMatrixMode(GL.GL_PROJECTION);
 		gl.glLoadIdentity();
 		gl.glViewport(0, 0, width, height);
+		this.width = width;
+		this.height = height;
 	}
 
 	@Override
 	public void displayChanged(GLAutoDrawable arg0, boolean arg1, boolean arg2) {
 	}
 
-	public void addDrawable(final Drawable drawable) {
+	/**
+	 * Adiciona um objeto a uma camada. O objeto continua sendo desenhado em
+	 * todos os quadros at ser removido da camada.
+	 * 
+	 * @param layer
+	 *            camada que recebe o objeto.
+	 * @param drawable
+	 *            objeto a ser desenhado.
+	 */
+	public void addDrawable(final Layer layer, final Drawable drawable) {
+		final DrawLayer drawLayer = layers.get(layer);
+		if (drawable != null && !drawLayer.drawables.contains(drawable)) {
+			drawLayer.drawables.add(drawable);
+			drawLayer.invalidate();
+		}
+	}
+
+	/**
+	 * Substitui todo o contedo de uma camada por um nico objeto.
+	 * 
+	 * @param layer
+	 *            camada a ser alterada.
+	 * @param drawable
+	 *            objeto a ser desenhado, ou <code>null</code> para deixar a
+	 *            camada vazia.
+	 */
+	public void setDrawable(final Layer layer, final Drawable drawable) {
+		final DrawLayer drawLayer = layers.get(layer);
+		drawLayer.drawables.clear();
 		if (drawable != null) {
-			drawings.add(drawable);
+			drawLayer.drawables.add(drawable);
 		}
+		drawLayer.invalidate();
+	}
+
+	/**
+	 * Remove todos os objetos de uma camada.
+	 * 
+	 * @param layer
+	 *            camada a ser limpa.
+	 */
+	public void clear(final Layer layer) {
+		setDrawable(layer, null);
+	}
+
+	/**
+	 * Indica que os objetos de uma camada mudaram e ela precisa ser
+	 * percorrida novamente no prximo quadro. As demais camadas continuam
+	 * usando o que j foi gravado. Os objetos da camada recebem
+	 * {@link Drawable#invalidate()}.
+	 * 
+	 * @param layer
+	 *            camada a ser invalidada.
+	 */
+	public void invalidate(final Layer layer) {
+		layers.get(layer).invalidate();
 	}
 
 	public void setAxisSizes(final float[] newSizes) {
@@ -87,10 +200,125 @@ public class Render implements GLEventListener {
 		gl.glEnd();
 	}
 
+	/**
+	 * Mostra ou esconde o painel com as {@link Metrics} do ltimo quadro, no
+	 * canto superior esquerdo da janela.
+	 * 
+	 * @param visible
+	 *            <code>true</code> para mostrar o painel.
+	 */
+	public void setMetricsVisible(final boolean visible) {
+		metricsVisible = visible;
+	}
+
+	public boolean isMetricsVisible() {
+		return metricsVisible;
+	}
+
+	/**
+	 * Desenha o painel de mtricas em coordenadas de pixel.  desenhado
+	 * depois do fim do quadro, para que o seu custo no entre nas mtricas.
+	 */
+	private void drawMetrics() {
+		gl.glMatrixMode(GL.GL_PROJECTION);
+		gl.glLoadIdentity();
+		glu.gluOrtho2D(0, width, 0, height);
+		gl.glMatrixMode(GL.GL_MODELVIEW);
+		gl.glLoadIdentity();
+		gl.glColor3f(0f, 0f, 0f);
+
+		final long[] histogram = metrics.getFrameTimeHistogram();
+		final StringBuilder buckets = new StringBuilder("histograma:");
+		for (long count : histogram) {
+			buckets.append(' ').append(count);
+		}
+		final long allocated = metrics.getAllocatedBytes();
+		final String[] lines = {
+				String.format(Locale.ROOT, "quadro: %.2f ms (media %.2f, max %.2f)", metrics.getLastFrameMillis(),
+						metrics.getAverageFrameMillis(), metrics.getMaxFrameMillis()),
+				buckets.toString(),
+				"chamadas: " + metrics.getDrawCalls() + "  vertices: " + metrics.getVerticesSubmitted(),
+				"objetos: " + metrics.getObjectsDrawn() + " desenhados, " + metrics.getObjectsCulled()
+						+ " descartados",
+				String.format(Locale.ROOT, "selecao: %.3f ms (media %.3f)", metrics.getLastPickMillis(),
+						metrics.getAveragePickMillis()),
+				"alocado: " + (allocated < 0 ? "?" : (allocated / 1024) + " KB") };
+		for (int i = 0; i < lines.length; i++) {
+			gl.glRasterPos2i(METRICS_MARGIN, height - METRICS_MARGIN - (i + 1) * METRICS_LINE_HEIGHT);
+			glut.glutBitmapString(GLUT.BITMAP_HELVETICA_12, lines[i]);
+		}
+	}
+
+	/**
+	 * Pede o desenho de um novo quadro. Vrios pedidos feitos antes do quadro
+	 * ser desenhado geram um nico {@link GLAutoDrawable#display()}.
+	 */
 	public void render() {
+		scheduler.requestFrame();
+	}
+
+	public FrameScheduler getFrameScheduler() {
+		return scheduler;
+	}
+
+	private void displayNow() {
 		if (glDrawable == null) {
 			return;
 		}
 		glDrawable.display();
 	}
+
+	/**
+	 * Camada de desenho. Uma camada gravada em display list s  percorrida
+	 * novamente depois de ser invalidada, nos demais quadros a display list 
+	 * apenas executada; as demais camadas so desenhadas a cada quadro.
+	 * <p>
+	 * As mtricas contadas ao gravar a camada so guardadas e somadas de novo
+	 * em cada quadro que apenas executa a display list.
+	 */
+	private static class DrawLayer {
+
+		private final List<Drawable> drawables = new ArrayList<>();
+		private final boolean compiled;
+		private final Metrics.Counts before = new Metrics.Counts();
+		private final Metrics.Counts recorded = new Metrics.Counts();
+		private int listId;
+		private volatile boolean dirty = true;
+
+		private DrawLayer(final boolean compiled) {
+			this.compiled = compiled;
+		}
+
+		private void invalidate() {
+			dirty = true;
+			drawables.forEach(Drawable::invalidate);
+		}
+
+		private void reset() {
+			listId = 0;
+			dirty = true;
+		}
+
+		private void draw(final GL gl, final Metrics metrics) {
+			if (!compiled) {
+				drawables.forEach(d -> d.draw(gl));
+				return;
+			}
+			if (dirty || listId == 0) {
+				if (listId == 0) {
+					listId = gl.glGenLists(1);
+				}
+				dirty = false;
+				metrics.readCounts(before);
+				gl.glNewList(listId, GL.GL_COMPILE);
+				drawables.forEach(d -> d.draw(gl));
+				gl.glEndList();
+				metrics.readCounts(recorded);
+				recorded.subtract(before);
+			} else {
+				metrics.addCounts(recorded);
+			}
+			gl.glCallList(listId);
+		}
+	}
 }
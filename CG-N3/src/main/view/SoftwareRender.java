@@ -0,0 +1,337 @@
+package main.view;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import javax.imageio.ImageIO;
+
+import main.Camera;
+import main.Drawable;
+import main.World;
+import main.opengl.SoftwareGL;
+
+/**
+ * Desenha objetos {@link Drawable} sem OpenGL e sem tela, em um framebuffer
+ * <code>int[]</code> no formato ARGB que pode ser salvo como PNG.
+ * <p>
+ * As primitivas so gravadas por um {@link SoftwareGL} e depois distribudas
+ * em blocos de {@value #TILE_SIZE}x{@value #TILE_SIZE} pixels. Cada bloco 
+ * rasterizado linha a linha por uma thread diferente, sem precisar de
+ * sincronizao, pois cada pixel pertence a um nico bloco. Dentro de um
+ * bloco as primitivas so desenhadas na ordem original.
+ * <p>
+ * Uma instncia no deve ser usada por mais de uma thread ao mesmo tempo;
+ * para gerar vrias imagens em paralelo use uma instncia por thread.
+ */
+public class SoftwareRender {
+
+	private static final int TILE_SIZE = 64;
+
+	private final int width;
+	private final int height;
+	private final int[] pixels;
+	private final SoftwareGL gl = new SoftwareGL();
+	private final int tilesX;
+	private final int tilesY;
+	/* ndices das primitivas que tocam cada bloco */
+	private final int[][] bins;
+	private final int[] binSizes;
+	private int background = 0xFFFFFFFF;
+
+	public SoftwareRender(final int width, final int height) {
+		if (width <= 0 || height <= 0) {
+			throw new IllegalArgumentException("Tamanho invlido: " + width + "x" + height);
+		}
+		this.width = width;
+		this.height = height;
+		pixels = new int[width * height];
+		tilesX = (width + TILE_SIZE - 1) / TILE_SIZE;
+		tilesY = (height + TILE_SIZE - 1) / TILE_SIZE;
+		bins = new int[tilesX * tilesY][16];
+		binSizes = new int[tilesX * tilesY];
+	}
+
+	/**
+	 * Altera a cor de fundo.
+	 *
+	 * @param color
+	 *            cor RGB, com os valores entre 0 e 1.
+	 */
+	public void setBackground(final float[] color) {
+		background = toArgb(color);
+	}
+
+	/**
+	 * Desenha um mundo com a sua prpria cmera, que tambm  usada pelo
+	 * mundo para descartar os objetos fora da rea visvel.
+	 *
+	 * @param world
+	 *            mundo a ser desenhado.
+	 * @return pixels da imagem no formato ARGB, linha a linha a partir do
+	 *         canto superior esquerdo.
+	 */
+	public int[] render(final World world) {
+		return render(world.getCamera(), world);
+	}
+
+	/**
+	 * Desenha um objeto com a projeo ortogonal de uma cmera. O tamanho da
+	 * imagem  informado  cmera, para a escolha do nvel de detalhe.
+	 *
+	 * @param camera
+	 *            cmera que define a rea visvel.
+	 * @param drawable
+	 *            objeto a ser desenhado.
+	 * @return pixels da imagem no formato ARGB, linha a linha a partir do
+	 *         canto superior esquerdo.
+	 */
+	public int[] render(final Camera camera, final Drawable drawable) {
+		camera.setViewportSize(width, height);
+		gl.setViewport(camera.getAxis(0), camera.getAxis(1), camera.getAxis(2), camera.getAxis(3), width, height);
+		drawable.draw(gl);
+		binPrimitives();
+
+		final int tiles = tilesX * tilesY;
+		if (tiles == 1) {
+			rasterizeTile(0);
+		} else {
+			IntStream.range(0, tiles).parallel().forEach(this::rasterizeTile);
+		}
+		return pixels;
+	}
+
+	public int getWidth() {
+		return width;
+	}
+
+	public int getHeight() {
+		return height;
+	}
+
+	/**
+	 * @return pixels do ltimo desenho.
+	 */
+	public int[] getPixels() {
+		return pixels;
+	}
+
+	/**
+	 * Copia o ltimo desenho para uma imagem.
+	 *
+	 * @return imagem RGB com o ltimo desenho.
+	 */
+	public BufferedImage toImage() {
+		final BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		image.setRGB(0, 0, width, height, pixels, 0, width);
+		return image;
+	}
+
+	/**
+	 * Salva o ltimo desenho como PNG.
+	 *
+	 * @param output
+	 *            destino da imagem; no  fechado.
+	 * @throws IOException
+	 *             se no for possvel escrever a imagem.
+	 */
+	public void writePng(final OutputStream output) throws IOException {
+		ImageIO.write(toImage(), "png", output);
+	}
+
+	/**
+	 * Salva o ltimo desenho como PNG.
+	 *
+	 * @param file
+	 *            arquivo de destino.
+	 * @throws IOException
+	 *             se no for possvel escrever a imagem.
+	 */
+	public void writePng(final File file) throws IOException {
+		ImageIO.write(toImage(), "png", file);
+	}
+
+	/**
+	 * Distribui as primitivas gravadas entre os blocos que o retngulo de
+	 * cada uma toca.
+	 */
+	private void binPrimitives() {
+		Arrays.fill(binSizes, 0);
+		final int count = gl.getPrimitiveCount();
+		for (int i = 0; i < count; i++) {
+			final float half = halfSize(gl.getSize(i));
+			final float minX = Math.min(gl.getX0(i), gl.getX1(i)) - half;
+			final float maxX = Math.max(gl.getX0(i), gl.getX1(i)) + half;
+			final float minY = Math.min(gl.getY0(i), gl.getY1(i)) - half;
+			final float maxY = Math.max(gl.getY0(i), gl.getY1(i)) + half;
+			if (maxX < 0 || maxY < 0 || minX >= width || minY >= height) {
+				continue;
+			}
+			final int firstX = Math.max(0, (int) minX / TILE_SIZE);
+			final int lastX = Math.min(tilesX - 1, (int) maxX / TILE_SIZE);
+			final int firstY = Math.max(0, (int) minY / TILE_SIZE);
+			final int lastY = Math.min(tilesY - 1, (int) maxY / TILE_SIZE);
+			for (int ty = firstY; ty <= lastY; ty++) {
+				for (int tx = firstX; tx <= lastX; tx++) {
+					final int tile = ty * tilesX + tx;
+					if (binSizes[tile] == bins[tile].length) {
+						bins[tile] = Arrays.copyOf(bins[tile], bins[tile].length * 2);
+					}
+					bins[tile][binSizes[tile]++] = i;
+				}
+			}
+		}
+	}
+
+	private void rasterizeTile(final int tile) {
+		final int left = (tile % tilesX) * TILE_SIZE;
+		final int top = (tile / tilesX) * TILE_SIZE;
+		final int right = Math.min(left + TILE_SIZE, width);
+		final int bottom = Math.min(top + TILE_SIZE, height);
+
+		for (int y = top; y < bottom; y++) {
+			Arrays.fill(pixels, y * width + left, y * width + right, background);
+		}
+
+		final int[] bin = bins[tile];
+		for (int i = 0; i < binSizes[tile]; i++) {
+			final int primitive = bin[i];
+			if (gl.isPoint(primitive)) {
+				fillPoint(primitive, left, top, right, bottom);
+			} else {
+				fillLine(primitive, left, top, right, bottom);
+			}
+		}
+	}
+
+	/**
+	 * Preenche o quadrado de um ponto, limitado ao bloco.
+	 */
+	private void fillPoint(final int primitive, final int left, final int top, final int right, final int bottom) {
+		final float half = halfSize(gl.getSize(primitive));
+		final float x = gl.getX0(primitive);
+		final float y = gl.getY0(primitive);
+		fillSpan(x - half, x + half, y - half, y + half, gl.getColor(primitive), left, top, right, bottom);
+	}
+
+	/**
+	 * Preenche uma linha grossa como no OpenGL: se a linha  mais horizontal
+	 * cada coluna recebe uma faixa vertical com a espessura da linha, se 
+	 * mais vertical cada linha de pixels recebe uma faixa horizontal. Para
+	 * cada linha de pixels do bloco  calculado o intervalo em X coberto.
+	 */
+	private void fillLine(final int primitive, final int left, final int top, final int right, final int bottom) {
+		final float half = halfSize(gl.getSize(primitive));
+		final int color = gl.getColor(primitive);
+		float x0 = gl.getX0(primitive);
+		float y0 = gl.getY0(primitive);
+		float x1 = gl.getX1(primitive);
+		float y1 = gl.getY1(primitive);
+		final float dx = x1 - x0;
+		final float dy = y1 - y0;
+
+		if (Math.abs(dx) >= Math.abs(dy)) {
+			if (dx == 0) {
+				return;
+			}
+			if (x0 > x1) {
+				float swap = x0;
+				x0 = x1;
+				x1 = swap;
+				swap = y0;
+				y0 = y1;
+				y1 = swap;
+			}
+			final float slope = dy / dx;
+			final int firstRow = Math.max(top, pixelStart(Math.min(y0, y1) - half));
+			final int lastRow = Math.min(bottom, pixelStart(Math.max(y0, y1) + half));
+			for (int y = firstRow; y < lastRow; y++) {
+				final float center = y + 0.5f;
+				float from;
+				float to;
+				if (slope == 0) {
+					if (Math.abs(center - y0) > half) {
+						continue;
+					}
+					from = x0;
+					to = x1;
+				} else {
+					from = x0 + (center - half - y0) / slope;
+					to = x0 + (center + half - y0) / slope;
+					if (from > to) {
+						final float swap = from;
+						from = to;
+						to = swap;
+					}
+					from = Math.max(from, x0);
+					to = Math.min(to, x1);
+				}
+				fillRow(y, from, to, color, left, right);
+			}
+		} else {
+			if (y0 > y1) {
+				float swap = x0;
+				x0 = x1;
+				x1 = swap;
+				swap = y0;
+				y0 = y1;
+				y1 = swap;
+			}
+			final float inverseSlope = dx / dy;
+			final int firstRow = Math.max(top, pixelStart(y0));
+			final int lastRow = Math.min(bottom, pixelStart(y1));
+			for (int y = firstRow; y < lastRow; y++) {
+				final float x = x0 + (y + 0.5f - y0) * inverseSlope;
+				fillRow(y, x - half, x + half, color, left, right);
+			}
+		}
+	}
+
+	private void fillSpan(final float minX, final float maxX, final float minY, final float maxY, final int color,
+			final int left, final int top, final int right, final int bottom) {
+		final int firstRow = Math.max(top, pixelStart(minY));
+		final int lastRow = Math.min(bottom, pixelStart(maxY));
+		for (int y = firstRow; y < lastRow; y++) {
+			fillRow(y, minX, maxX, color, left, right);
+		}
+	}
+
+	/**
+	 * Pinta os pixels de uma linha cujo centro est no intervalo
+	 * <code>[from, to)</code>, limitado ao bloco.
+	 */
+	private void fillRow(final int y, final float from, final float to, final int color, final int left,
+			final int right) {
+		final int first = Math.max(left, pixelStart(from));
+		final int last = Math.min(right, pixelStart(to));
+		if (first < last) {
+			Arrays.fill(pixels, y * width + first, y * width + last, color);
+		}
+	}
+
+	/**
+	 * @return primeiro pixel cujo centro no est antes da coordenada.
+	 */
+	private static int pixelStart(final float coordinate) {
+		return (int) Math.ceil(coordinate - 0.5f);
+	}
+
+	/**
+	 * Linhas e pontos com menos de um pixel continuam com um pixel, como no
+	 * OpenGL.
+	 */
+	private static float halfSize(final float size) {
+		return Math.max(size, 1f) / 2f;
+	}
+
+	private static int toArgb(final float[] color) {
+		return 0xFF000000 | (channel(color[0]) << 16) | (channel(color[1]) << 8) | channel(color[2]);
+	}
+
+	private static int channel(final float value) {
+		return Math.round(Math.max(0f, Math.min(1f, value)) * 255f);
+	}
+}